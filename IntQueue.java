@@ -0,0 +1,150 @@
+import java.util.NoSuchElementException;
+
+/**
+*   This class implements a FIFO queue of
+*   int values, with no boxing.
+*
+*   Like MyQueue, it's built on a circular array
+*   whose length is a power of two, but the array is
+*   an int[]. The array doubles when it fills up, and
+*   never shrinks, so a queue whose size holds steady
+*   allocates nothing.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class IntQueue{
+    private int[] elements;
+    private int head;       // the index of the front of the line
+    private int size;
+
+    public IntQueue(){
+        this(16);
+    } // end constructor
+
+    /**
+    *   @param capacity the number of values this queue
+    *                   can hold before it has to grow
+    */
+    public IntQueue(int capacity){
+        int length = (capacity <= 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new int[length];
+        this.head = 0;
+        this.size = 0;
+    } // end constructor
+
+    /**
+    *   @return the number of values in this queue
+    */
+    public int size(){
+        return this.size;
+    } // end method size
+
+    /**
+    *   Tests if the queue is empty.
+    */
+    public boolean isEmpty(){
+        return (this.size == 0);
+    } // end method isEmpty
+
+    /**
+    *   Removes every value from this queue,
+    *   keeping its array for reuse.
+    */
+    public void clear(){
+        this.head = 0;
+        this.size = 0;
+    } // end method clear
+
+    /**
+    *   Adds a value to the end of the queue.
+    *   @param value the value to be added
+    */
+    public void enqueue(int value){
+        if (this.size == elements.length)
+            resize(elements.length * 2);
+
+        elements[(head + size) & (elements.length - 1)] = value;
+        this.size++;
+    } // end method enqueue
+
+    /**
+    *   Adds a run of values to the end of the
+    *   queue, in order, copying at most two blocks.
+    *
+    *   @param values the array holding the values
+    *   @param offset the index of the first value to be added
+    *   @param length the number of values to be added
+    */
+    public void enqueueAll(int[] values, int offset, int length){
+        if (offset < 0 || length < 0 || offset > values.length - length)
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length
+                                                + ", array length " + values.length);
+
+        if (this.size + length > elements.length){
+            int capacity = elements.length;
+            while (capacity < this.size + length)
+                capacity *= 2;
+            resize(capacity);
+        }
+
+        int tail = (head + size) & (elements.length - 1);
+        int firstPart = Math.min(length, elements.length - tail);     // from the tail to the end of the array,
+
+        System.arraycopy(values, offset, elements, tail, firstPart);
+        System.arraycopy(values, offset + firstPart, elements, 0, length - firstPart);   // and the rest wraps around.
+        this.size += length;
+    } // end method enqueueAll
+
+    /**
+    *   Removes the value at the front of the queue.
+    *
+    *   @return the first in line
+    *   @throws NoSuchElementException if this queue is empty
+    */
+    public int dequeueInt(){
+        if (this.isEmpty())
+            throw new NoSuchElementException();
+
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        this.size--;
+        return value;
+    } // end method dequeueInt
+
+    /**
+    *   Retrieves, but does not remove, the
+    *   value at the front of the queue.
+    *
+    *   @return the first in line
+    *   @throws NoSuchElementException if this queue is empty
+    */
+    public int peekInt(){
+        if (this.isEmpty())
+            throw new NoSuchElementException();
+
+        return elements[head];
+    } // end method peekInt
+
+    /**
+    *   Moves this queue's values into a new array,
+    *   unwrapping them so the front of the line is
+    *   at index 0.
+    *
+    *   @param capacity the new array's length; a power of two
+    */
+    private void resize(int capacity){
+        int[] resized = new int[capacity];
+        int firstPart = Math.min(size, elements.length - head);
+
+        System.arraycopy(elements, head, resized, 0, firstPart);
+        System.arraycopy(elements, 0, resized, firstPart, size - firstPart);
+
+        this.elements = resized;
+        this.head = 0;
+    } // end method resize
+} // end class
@@ -0,0 +1,420 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+*   This class implements a self-balancing (AVL)
+*   binary search tree of long keys.
+*
+*   Unlike MyBST, there are no Node objects and
+*   no boxing. Each node is just an int ID, and its
+*   key, children and height live at that index in
+*   parallel primitive arrays. ID 0 stands for "no
+*   node". The IDs of removed nodes are recycled
+*   through a free list, so a tree whose size holds
+*   steady allocates nothing.
+*
+*   Nodes don't keep links to their parents. Instead,
+*   add and remove record the path they took down
+*   the tree in a reusable array, and walk it back
+*   up to rebalance.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class LongBST{
+    private static final int NIL = 0;
+    private static final int MAX_HEIGHT = 64;  // comfortably above any AVL tree's height with int IDs
+
+    private long[] keys;
+    private int[] leftChild;
+    private int[] rightChild;
+    private int[] height;       // leaves have a height of 1; NIL has a height of 0
+
+    private int root;
+    private int size;
+    private int nextUnused;     // the lowest ID that has never been handed out
+    private int freeList;       // IDs of removed nodes, chained through leftChild
+
+    private final int[] path;   // the nodes visited by the current add or remove
+    private final int[] stack;  // the nodes waiting to be visited by forEach
+    private boolean inForEach;  // (if forEach is called again from its action, it needs a stack of its own)
+    private final IntQueue levelQueue;  // the nodes waiting to be visited by a level-order walk
+    private boolean inLevelWalk;        // (if a walk is running, a new one needs a queue of its own)
+
+    public LongBST(){
+        this(16);
+    } // end constructor
+
+    /**
+    *   @param capacity the number of keys this tree can hold before it has to grow
+    */
+    public LongBST(int capacity){
+        capacity = Math.max(capacity, 1) + 1;   // (slot 0 is NIL)
+        this.keys = new long[capacity];
+        this.leftChild = new int[capacity];
+        this.rightChild = new int[capacity];
+        this.height = new int[capacity];
+        this.root = NIL;
+        this.size = 0;
+        this.nextUnused = 1;
+        this.freeList = NIL;
+        this.path = new int[MAX_HEIGHT];
+        this.stack = new int[MAX_HEIGHT];
+        this.levelQueue = new IntQueue();
+    } // end constructor
+
+    public int getSize(){
+        return this.size;
+    } // end method getSize
+
+    /**
+    *   Tests if this tree is empty.
+    *   @return 'true' if this tree is empty
+    */
+    public boolean isEmpty(){
+        return (this.root == NIL);
+    } // end method isEmpty
+
+    /**
+    *   Tests if this tree contains some key.
+    *   @param key the key to be searched for
+    *   @return 'true' if the key exists in this tree
+    */
+    public boolean contains(long key){
+        int n = this.root;
+
+        while (n != NIL){
+            if (key < keys[n])
+                n = leftChild[n];
+            else if (key > keys[n])
+                n = rightChild[n];
+            else
+                return true;
+        }
+
+        return false;
+    } // end method contains
+
+    /**
+    *   @return the lowest key in this tree
+    *   @throws NoSuchElementException if this tree is empty
+    */
+    public long getMinimum(){
+        if (this.isEmpty())
+            throw new NoSuchElementException();
+
+        int n = this.root;
+        while (leftChild[n] != NIL)
+            n = leftChild[n];
+
+        return keys[n];
+    } // end method getMinimum
+
+    /**
+    *   @return the highest key in this tree
+    *   @throws NoSuchElementException if this tree is empty
+    */
+    public long getMaximum(){
+        if (this.isEmpty())
+            throw new NoSuchElementException();
+
+        int n = this.root;
+        while (rightChild[n] != NIL)
+            n = rightChild[n];
+
+        return keys[n];
+    } // end method getMaximum
+
+    /**
+    *   Inserts a key in this tree,
+    *   unless it's already in there.
+    */
+    public void add(long key){
+        int depth = 0;
+        int n = this.root;
+
+        while (n != NIL){
+            path[depth++] = n;
+
+            if (key < keys[n])
+                n = leftChild[n];
+            else if (key > keys[n])
+                n = rightChild[n];
+            else
+                return;
+        }
+
+        int newNode = allocate(key);
+
+        if (depth == 0)
+            this.root = newNode;
+        else if (key < keys[path[depth-1]])
+            leftChild[path[depth-1]] = newNode;
+        else
+            rightChild[path[depth-1]] = newNode;
+
+        this.size++;
+        retrace(depth);
+    } // end method add
+
+    /**
+    *   Removes a key from this tree.
+    *   @param key the key to be removed
+    */
+    public void remove(long key){
+        int depth = 0;
+        int n = this.root;
+
+        while (n != NIL && keys[n] != key){
+            path[depth++] = n;
+            n = (key < keys[n]) ? leftChild[n] : rightChild[n];
+        }
+
+        if (n == NIL)       // if it isn't here,
+            return;         // do nothing.
+
+        if (leftChild[n] != NIL && rightChild[n] != NIL){   // if the node is full, its successor's key
+            path[depth++] = n;                              // takes its place, and the successor goes instead.
+            int successor = rightChild[n];
+            while (leftChild[successor] != NIL){
+                path[depth++] = successor;
+                successor = leftChild[successor];
+            }
+            keys[n] = keys[successor];
+            n = successor;
+        }
+
+        int child = (leftChild[n] != NIL) ? leftChild[n] : rightChild[n];
+        replaceChild(depth, n, child);
+        release(n);
+        this.size--;
+        retrace(depth);
+    } // end method remove
+
+    /**
+    *   Hands every key in this tree to some
+    *   action, in order. Allocates nothing, unless
+    *   it's called again from inside the action.
+    *
+    *   @param action the action to be performed on each key
+    */
+    public void forEach(LongConsumer action){
+        boolean nested = this.inForEach;
+        int[] stack = nested ? new int[MAX_HEIGHT] : this.stack;
+        int depth = 0;
+        int n = this.root;
+
+        this.inForEach = true;
+        try {
+            while (n != NIL || depth > 0){
+                while (n != NIL){               // go as far left as possible,
+                    stack[depth++] = n;
+                    n = leftChild[n];
+                }
+
+                n = stack[--depth];             // visit the lowest unvisited node,
+                action.accept(keys[n]);
+                n = rightChild[n];              // and move on to its right subtree.
+            }
+        } finally {
+            this.inForEach = nested;
+        }
+    } // end method forEach
+
+    /**
+    *   Hands every key in this tree to some
+    *   action, level by level, from left to right.
+    *   Allocates nothing, unless it's called again
+    *   (or width is) from inside the action.
+    *
+    *   @param action the action to be performed on each key
+    */
+    public void forEachByLevel(LongConsumer action){
+        if (this.isEmpty()) return;
+
+        boolean nested = this.inLevelWalk;
+        IntQueue queue = nested ? new IntQueue() : levelQueue;
+        queue.clear();
+        queue.enqueue(this.root);
+
+        this.inLevelWalk = true;
+        try {
+            while (!queue.isEmpty()){
+                int n = queue.dequeueInt();
+                action.accept(keys[n]);
+
+                if (leftChild[n] != NIL)  queue.enqueue(leftChild[n]);
+                if (rightChild[n] != NIL) queue.enqueue(rightChild[n]);
+            }
+        } finally {
+            this.inLevelWalk = nested;
+        }
+    } // end method forEachByLevel
+
+    /**
+    *   Calculates the width of this tree,
+    *   i.e. the number of nodes in the
+    *   level with the most nodes.
+    */
+    public int width(){
+        if (this.isEmpty()) return 0;
+
+        IntQueue queue = this.inLevelWalk ? new IntQueue() : levelQueue;   // (don't disturb a walk in progress)
+        queue.clear();
+        queue.enqueue(this.root);
+        int width = 1;
+
+        while (!queue.isEmpty()){
+            int count = queue.size();               // the nodes in the current level,
+
+            while (count-- != 0){                   // are replaced with those in the next level.
+                int n = queue.dequeueInt();
+                if (leftChild[n] != NIL)  queue.enqueue(leftChild[n]);
+                if (rightChild[n] != NIL) queue.enqueue(rightChild[n]);
+            }
+
+            width = Math.max(width, queue.size());
+        }
+
+        return width;
+    } // end method width
+
+    /**
+    *   Walks back up the path recorded by add or
+    *   remove, refreshing heights and rotating any
+    *   node whose subtrees differ in height by more
+    *   than one.
+    *
+    *   @param depth the number of nodes on the path
+    */
+    private void retrace(int depth){
+        for (int i = depth-1; i >= 0; i--){
+            int n = path[i];
+            int balanced = balance(n);
+
+            if (balanced != n)
+                replaceChild(i, n, balanced);
+        }
+    } // end method retrace
+
+    /**
+    *   Points the parent of some node on the
+    *   recorded path at a different node.
+    *
+    *   @param depth the position of the old node on the path
+    *   @param old the node being replaced
+    *   @param replacement the node taking its place
+    */
+    private void replaceChild(int depth, int old, int replacement){
+        if (depth == 0)
+            this.root = replacement;
+        else if (leftChild[path[depth-1]] == old)
+            leftChild[path[depth-1]] = replacement;
+        else
+            rightChild[path[depth-1]] = replacement;
+    } // end method replaceChild
+
+    /**
+    *   Refreshes a node's height, and rotates
+    *   it if it's out of balance.
+    *
+    *   @return the node now at n's position
+    */
+    private int balance(int n){
+        updateHeight(n);
+        int balance = height[leftChild[n]] - height[rightChild[n]];
+
+        if (balance > 1){                                   // if the left side is too tall,
+            int left = leftChild[n];
+            if (height[leftChild[left]] < height[rightChild[left]])    // and it leans right,
+                leftChild[n] = rotateLeft(left);                        // straighten it out first.
+            return rotateRight(n);
+        } else if (balance < -1){                           // if the right side is too tall,
+            int right = rightChild[n];
+            if (height[rightChild[right]] < height[leftChild[right]])
+                rightChild[n] = rotateRight(right);
+            return rotateLeft(n);
+        }
+
+        return n;
+    } // end method balance
+
+    /**
+    *   @return the new root of the rotated subtree
+    */
+    private int rotateLeft(int n){
+        int pivot = rightChild[n];
+        rightChild[n] = leftChild[pivot];
+        leftChild[pivot] = n;
+        updateHeight(n);
+        updateHeight(pivot);
+        return pivot;
+    } // end method rotateLeft
+
+    /**
+    *   @return the new root of the rotated subtree
+    */
+    private int rotateRight(int n){
+        int pivot = leftChild[n];
+        leftChild[n] = rightChild[pivot];
+        rightChild[pivot] = n;
+        updateHeight(n);
+        updateHeight(pivot);
+        return pivot;
+    } // end method rotateRight
+
+    private void updateHeight(int n){
+        height[n] = 1 + Math.max(height[leftChild[n]], height[rightChild[n]]);
+    } // end method updateHeight
+
+    /**
+    *   Hands out an ID for a new leaf, reusing
+    *   a removed one if there is any.
+    */
+    private int allocate(long key){
+        int n;
+
+        if (this.freeList != NIL){
+            n = this.freeList;
+            this.freeList = leftChild[n];
+        } else {
+            ensureExtraCapacity();
+            n = this.nextUnused++;
+        }
+
+        keys[n] = key;
+        leftChild[n] = NIL;
+        rightChild[n] = NIL;
+        height[n] = 1;
+        return n;
+    } // end method allocate
+
+    /**
+    *   Puts a removed node's ID on the free list.
+    */
+    private void release(int n){
+        leftChild[n] = this.freeList;
+        rightChild[n] = NIL;
+        height[n] = 0;
+        this.freeList = n;
+    } // end method release
+
+    /**
+    *   If every ID has been handed out,
+    *   this method doubles this tree's capacity.
+    */
+    private void ensureExtraCapacity(){
+        if (this.nextUnused == keys.length){
+            int capacity = keys.length * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            leftChild = Arrays.copyOf(leftChild, capacity);
+            rightChild = Arrays.copyOf(rightChild, capacity);
+            height = Arrays.copyOf(height, capacity);
+        }
+    } // end method ensureExtraCapacity
+} // end class
@@ -0,0 +1,169 @@
+import java.util.Arrays;
+
+/**
+*   This class implements a min-heap of long
+*   priorities, each carrying an int payload
+*   (an ID, an index into some other array, etc).
+*
+*   Priorities and payloads live in two parallel
+*   primitive arrays, so nothing is boxed, nothing
+*   is allocated per element, and comparisons are
+*   plain '<' instead of calls to compareTo.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class LongMinHeap{
+    private int capacity;
+    private int size;
+    private long[] priorities;
+    private int[] payloads;
+
+
+    public LongMinHeap(){
+        this(10);
+    }
+
+    public LongMinHeap(int capacity){
+        this.capacity = capacity;
+        size = 0;
+        priorities = new long[capacity];
+        payloads = new int[capacity];
+    }
+
+    public boolean isEmpty(){return size == 0;       }
+    public boolean isFull() {return size == capacity;}
+    public int size()       {return size;            }
+
+    private int leftChildIndex(int i)   {return i*2 + 1;}
+    private int parentIndex(int i)      {return (i-1)/2;}
+
+    /**
+        Inserts a payload into this heap,
+        preserving the MinHeap property.
+        @param priority the payload's priority; lower comes out first
+        @param payload the value to be inserted
+    */
+    public void insert(long priority, int payload){
+        ensureExtraCapacity();
+        size++;
+        bubbleUp(size-1, priority, payload);
+    }
+
+    /**
+        @return the lowest priority in this heap
+    */
+    public long peekPriority(){
+        if (this.isEmpty())
+            throw new IllegalStateException();
+
+        return priorities[0];
+    }
+
+    /**
+        @return the payload with the lowest priority in this heap
+    */
+    public int peekPayload(){
+        if (this.isEmpty())
+            throw new IllegalStateException();
+
+        return payloads[0];
+    }
+
+    /**
+        Removes the root (minimum priority) of
+        this heap, while maintaining the
+        heap property.
+        @return the payload that had the lowest priority
+    */
+    public int removeMin(){
+        if (this.isEmpty()) throw new IllegalStateException();
+
+        int payload = payloads[0];
+        size--;
+        if (size > 0)
+            bubbleDown(0, priorities[size], payloads[size]);  // Move the last entry into the root's place.
+
+        return payload;
+    }
+
+    /**
+        Restores the heap property after an insertion.
+
+        Rather than swapping at every level, this slides
+        parents down into the gap and writes the new entry
+        once, where it finally belongs.
+
+        @param i the index of the gap
+        @param priority the priority of the entry to be placed
+        @param payload the payload of the entry to be placed
+    */
+    private void bubbleUp(int i, long priority, int payload){
+        while (i > 0 && priorities[parentIndex(i)] > priority){
+            int parent = parentIndex(i);
+            priorities[i] = priorities[parent];     // Slide the parent down,
+            payloads[i] = payloads[parent];
+            i = parent;                             // and move the gap up.
+        }
+
+        priorities[i] = priority;
+        payloads[i] = payload;
+    }
+
+    /**
+        Restores the heap property after a removal,
+        sliding smaller children up into the gap.
+
+        @param i the index of the gap
+        @param priority the priority of the entry to be placed
+        @param payload the payload of the entry to be placed
+    */
+    private void bubbleDown(int i, long priority, int payload){
+        int child;
+
+        while ((child = leftChildIndex(i)) < size){
+            if (child + 1 < size && priorities[child+1] < priorities[child])   // pick the smaller child.
+                child++;
+
+            if (priority <= priorities[child])      // If the entry belongs here,
+                break;                              // stop.
+
+            priorities[i] = priorities[child];      // Otherwise, slide the child up,
+            payloads[i] = payloads[child];
+            i = child;                              // and move the gap down.
+        }
+
+        priorities[i] = priority;
+        payloads[i] = payload;
+    }
+
+    /**
+        If this heap is full, this method
+        doubles this heap's capacity.
+    */
+    private void ensureExtraCapacity(){
+        if (this.isFull()) {
+            capacity = Math.max(1, capacity*2);
+            priorities = Arrays.copyOf(priorities, capacity);
+            payloads = Arrays.copyOf(payloads, capacity);
+        }
+    }
+
+    /**
+        @return a string containing each priority:payload pair
+                in this heap, separated by spaces.
+    */
+    public String toString(){
+        StringBuilder output = new StringBuilder();
+
+        for (int i = 0; i < size; i++){
+            output.append(priorities[i]).append(':').append(payloads[i]).append(' ');
+        }
+
+        return output.toString().trim();
+    }
+} // end class
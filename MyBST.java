@@ -1,8 +1,23 @@
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
 *   This class implements a linked binary search tree.
 *
+*   Optionally, the tree can balance itself (AVL-style):
+*   every insertion and deletion retraces the path back up
+*   to the root and rotates wherever one subtree has grown
+*   two levels taller than its sibling. This keeps the height
+*   at O(log n) even when keys arrive in sorted order.
+*
 *   For educational purposes.
 *
 *   @author         Maximilian Spedale
@@ -10,15 +25,72 @@ import java.util.ArrayList;
 *   Last updated:   March 16, 2020
 */
 
-public class MyBST<T extends Comparable<T>>{
+public class MyBST<T extends Comparable<T>> implements Iterable<T>{
     private Node root;
     private int size;
+    private boolean balanced;
 
+    /**
+    *   Builds an empty, unbalanced tree.
+    */
     public MyBST(){
+        this(false);
+    } // end constructor
+
+    /**
+    *   Builds an empty tree.
+    *   @param balanced 'true' if this tree should rebalance
+    *                   itself after every insertion and deletion
+    */
+    public MyBST(boolean balanced){
         this.root = null;
         this.size = 0;
+        this.balanced = balanced;
     } // end constructor
 
+    /**
+    *   Builds a perfectly balanced, self-balancing
+    *   tree out of values that are already in
+    *   ascending order, in O(n) time.
+    *
+    *   Repeated values are only stored once.
+    *
+    *   @param data values in ascending order
+    *   @throws IllegalArgumentException if the values are out of order
+    */
+    public static <T extends Comparable<T>> MyBST<T> fromSorted(T[] data){
+        return fromSorted(Arrays.asList(data));
+    } // end method fromSorted
+
+    /**
+    *   Builds a perfectly balanced, self-balancing
+    *   tree out of values that are already in
+    *   ascending order, in O(n) time.
+    *
+    *   Repeated values are only stored once.
+    *
+    *   @param data values in ascending order
+    *   @throws IllegalArgumentException if the values are out of order
+    */
+    public static <T extends Comparable<T>> MyBST<T> fromSorted(List<T> data){
+        ArrayList<T> values = new ArrayList<>(data.size());
+
+        for (T value : data){
+            if (!values.isEmpty()){
+                int comparison = value.compareTo(values.get(values.size()-1));
+                if (comparison < 0)
+                    throw new IllegalArgumentException("values are not in ascending order: " + value);
+                if (comparison == 0)
+                    continue;
+            }
+            values.add(value);
+        }
+
+        MyBST<T> tree = new MyBST<>(true);
+        tree.rebuild(values);
+        return tree;
+    } // end method fromSorted
+
     public Node getRoot(){
         return this.root;
     } // end method getRoot
@@ -27,6 +99,10 @@ public class MyBST<T extends Comparable<T>>{
         return this.size;
     } // end method getSize
 
+    public boolean isBalanced(){
+        return this.balanced;
+    } // end method isBalanced
+
     /**
     *   Tests if this tree is empty.
     *   @return 'true' if this tree is empty
@@ -41,53 +117,33 @@ public class MyBST<T extends Comparable<T>>{
     *   @return 'true' if the value exists in this tree
     */
     public boolean contains(T value){
-        return recursiveSearch(this.root, value);
+        return (findNode(value) != null);
     } // end method contains
 
     /**
-    *   Recursively searches for some value.
-    *
-    *   @param currentNode the root of the subtree to be searched
-    *   @param value the value to be searched for
-    *   @return 'true' if this subtree contains t
-    */
-    private boolean recursiveSearch(Node currentNode, T value){
-        if (currentNode.data.equals(value))         // base case: it's here!
-            return true;
-        else if (t.compareTo(currentNode.data) < 0) // if the current node's value is too high,
-            return searchLeft(currentNode, value);  // search left.
-        else                                        // if the current node's value is too low,
-            return searchRight(currentNode, value); // search right.
-    } // end method recursiveSearch
-
-    /**
-    *   Searches a node's left subtree for some value.
-    *
-    *   @param currentNode the node whose right subtree is to be searched
-    *   @param value the value to be searched for
-    *   @return 'true' is the value is found
-    */
-    private boolean searchLeft(Node currentNode, T value){
-        if (currentNode.hasLeftChild())
-            return recursiveSearch(currentNode.leftChild, value);
-        else
-            return false;
-    } // end method searchLeft
-
-    /**
-    *   Searches a node's right subtree for some value.
+    *   Searches for the node holding some value,
+    *   descending one level per loop iteration.
     *
-    *   @param currentNode the node whose right subtree is to be searched
     *   @param value the value to be searched for
-    *   @return 'true' is the value is found
+    *   @return the node containing the value,
+    *           or null if it isn't in this tree
     */
-    private boolean searchRight(Node currentNode, T value){
-        if (currentNode.hasRightChild()){
-            return recursiveSearch(currentNode.rightChild, value);
-        } else {
-            return false;
+    private Node findNode(T value){
+        Node currentNode = this.root;
+
+        while (currentNode != null){
+            int comparison = value.compareTo(currentNode.data);
+
+            if (comparison == 0)                        // it's here!
+                return currentNode;
+            else if (comparison < 0)                    // if the current node's value is too high,
+                currentNode = currentNode.leftChild;    // search left.
+            else                                        // if the current node's value is too low,
+                currentNode = currentNode.rightChild;   // search right.
         }
-    } // end method searchRight
+
+        return null;
+    } // end method findNode
 
     /**
     *   Finds the lowest-ordered value
@@ -95,7 +151,7 @@ public class MyBST<T extends Comparable<T>>{
     *   @return the node containing the lowest value
     */
     public Node getMinimum(){
-        return recursiveMin(this.root);
+        return minimum(this.root);
     } // end method getMinimum
 
     /**
@@ -104,39 +160,247 @@ public class MyBST<T extends Comparable<T>>{
     *   @return the node containing the highest value
     */
     public Node getMaximum(){
-        return recursiveMax(this.root);
+        return maximum(this.root);
     } // end method getMaximum
 
     /**
-    *   Recursively locates the lowest-ordered
-    *   element in this subtree, aka the leftmost
-    *   leaf.
+    *   Locates the lowest-ordered element
+    *   in a subtree, aka its leftmost node.
     *   @param currentNode starting position
-    *   @return the node containing the lowest value
+    *   @return the node containing the lowest value,
+    *           or null if the subtree is empty
     */
-    private Node recursiveMin(Node currentNode){
+    private Node minimum(Node currentNode){
         if (currentNode == null)
             return null;
-        else if (currentNode.hasLeftChild())
-            return recursiveMin(currentNode.leftChild);
-        else
-            return currentNode;
-    } // end method recursiveMin
+
+        while (currentNode.hasLeftChild())
+            currentNode = currentNode.leftChild;
+
+        return currentNode;
+    } // end method minimum
 
     /**
-    *   Recursively locates the highest-ordered
-    *   element in this tree, aka the rightmost
-    *   leaf.
-    *   @return the node containing the highest value
+    *   Locates the highest-ordered element
+    *   in a subtree, aka its rightmost node.
+    *   @param currentNode starting position
+    *   @return the node containing the highest value,
+    *           or null if the subtree is empty
     */
-    private Node recursiveMax(Node currentNode){
+    private Node maximum(Node currentNode){
         if (currentNode == null)
             return null;
-        else if (currentNode.hasRightChild())
-            return recursiveMax(currentNode.rightChild);
-        else
-            return currentNode;
-    } // end method recursiveMax
+
+        while (currentNode.hasRightChild())
+            currentNode = currentNode.rightChild;
+
+        return currentNode;
+    } // end method maximum
+
+    /**
+    *   Finds the highest value in this tree
+    *   that is lower than or equal to some value.
+    *   @param value the value to be compared against
+    *   @return the matching node, or null if there isn't one
+    */
+    public Node floor(T value){
+        return closestBelow(value, true);
+    } // end method floor
+
+    /**
+    *   Finds the highest value in this tree
+    *   that is strictly lower than some value.
+    *   @param value the value to be compared against
+    *   @return the matching node, or null if there isn't one
+    */
+    public Node lower(T value){
+        return closestBelow(value, false);
+    } // end method lower
+
+    /**
+    *   Finds the lowest value in this tree
+    *   that is higher than or equal to some value.
+    *   @param value the value to be compared against
+    *   @return the matching node, or null if there isn't one
+    */
+    public Node ceiling(T value){
+        return closestAbove(value, true);
+    } // end method ceiling
+
+    /**
+    *   Finds the lowest value in this tree
+    *   that is strictly higher than some value.
+    *   @param value the value to be compared against
+    *   @return the matching node, or null if there isn't one
+    */
+    public Node higher(T value){
+        return closestAbove(value, false);
+    } // end method higher
+
+    /**
+    *   Descends once towards some value, remembering
+    *   the last node passed that was below it.
+    *
+    *   @param value the bound
+    *   @param inclusive 'true' if a node equal to the bound counts
+    *   @return the closest node below the bound, or null
+    */
+    private Node closestBelow(T value, boolean inclusive){
+        Node closest = null;
+        Node currentNode = this.root;
+
+        while (currentNode != null){
+            int comparison = value.compareTo(currentNode.data);
+
+            if (comparison == 0 && inclusive)
+                return currentNode;
+            else if (comparison > 0){                   // this node is below the bound, but
+                closest = currentNode;                  // there may be a closer one to its right.
+                currentNode = currentNode.rightChild;
+            }
+            else
+                currentNode = currentNode.leftChild;
+        }
+
+        return closest;
+    } // end method closestBelow
+
+    /**
+    *   Descends once towards some value, remembering
+    *   the last node passed that was above it.
+    *
+    *   @param value the bound
+    *   @param inclusive 'true' if a node equal to the bound counts
+    *   @return the closest node above the bound, or null
+    */
+    private Node closestAbove(T value, boolean inclusive){
+        Node closest = null;
+        Node currentNode = this.root;
+
+        while (currentNode != null){
+            int comparison = value.compareTo(currentNode.data);
+
+            if (comparison == 0 && inclusive)
+                return currentNode;
+            else if (comparison < 0){                   // this node is above the bound, but
+                closest = currentNode;                  // there may be a closer one to its left.
+                currentNode = currentNode.leftChild;
+            }
+            else
+                currentNode = currentNode.rightChild;
+        }
+
+        return closest;
+    } // end method closestAbove
+
+    /**
+    *   Returns the values in this tree from lo to hi,
+    *   both inclusive, in ascending order.
+    *
+    *   The iteration descends to lo once and then
+    *   follows successor links, so visiting k values
+    *   costs O(log n + k) in a balanced tree.
+    *
+    *   @param lo the lower bound
+    *   @param hi the upper bound
+    */
+    public Iterable<T> range(T lo, T hi){
+        return () -> new InOrderIterator(ceiling(lo), hi, true);
+    } // end method range
+
+    /**
+    *   Returns the values in this tree from hi down
+    *   to lo, both inclusive, in descending order.
+    *
+    *   @param lo the lower bound
+    *   @param hi the upper bound
+    */
+    public Iterable<T> descendingRange(T lo, T hi){
+        return () -> new InOrderIterator(floor(hi), lo, false);
+    } // end method descendingRange
+
+    /**
+    *   Counts the values in this tree that
+    *   are lower than some value.
+    *
+    *   @param value the value to be ranked; needn't be in this tree
+    *   @return the number of values lower than 'value'
+    */
+    public int rank(T value){
+        return countBelow(value, false);
+    } // end method rank
+
+    /**
+    *   Finds the k-th lowest value in this tree,
+    *   counting from 0, so select(0) is the minimum.
+    *
+    *   @param k the position of the value, in order
+    *   @return the node containing the k-th lowest value
+    *   @throws IndexOutOfBoundsException if k is negative
+    *           or not less than this tree's size
+    */
+    public Node select(int k){
+        if (k < 0 || k >= this.size)
+            throw new IndexOutOfBoundsException("k: " + k + ", size: " + this.size);
+
+        Node currentNode = this.root;
+
+        while (true){
+            int leftSize = size(currentNode.leftChild);
+
+            if (k < leftSize)                           // if the k-th value is in the left subtree,
+                currentNode = currentNode.leftChild;    // look there.
+            else if (k == leftSize)                     // if exactly k values are lower than this one,
+                return currentNode;                     // it's the one.
+            else {                                      // otherwise, skip this node and its left subtree.
+                k -= leftSize + 1;
+                currentNode = currentNode.rightChild;
+            }
+        }
+    } // end method select
+
+    /**
+    *   Counts the values in this tree that fall
+    *   between two bounds, both inclusive.
+    *
+    *   @param lo the lower bound
+    *   @param hi the upper bound
+    *   @return the number of values from lo to hi
+    */
+    public int countInRange(T lo, T hi){
+        if (lo.compareTo(hi) > 0)
+            return 0;
+
+        return countBelow(hi, true) - countBelow(lo, false);
+    } // end method countInRange
+
+    /**
+    *   Counts the values below some value in one
+    *   descent, using the subtree sizes.
+    *
+    *   @param value the bound
+    *   @param inclusive 'true' to also count the bound itself
+    *   @return the number of values below (or at) the bound
+    */
+    private int countBelow(T value, boolean inclusive){
+        int count = 0;
+        Node currentNode = this.root;
+
+        while (currentNode != null){
+            int comparison = value.compareTo(currentNode.data);
+
+            if (comparison < 0){                                    // everything from here rightwards is too high.
+                currentNode = currentNode.leftChild;
+            } else if (comparison == 0){                            // everything in the left subtree is lower.
+                return count + size(currentNode.leftChild) + (inclusive ? 1 : 0);
+            } else {                                                // this node and its left subtree are lower.
+                count += size(currentNode.leftChild) + 1;
+                currentNode = currentNode.rightChild;
+            }
+        }
+
+        return count;
+    } // end method countBelow
 
     /**
     *   Recursively calculates the height
@@ -150,7 +414,7 @@ public class MyBST<T extends Comparable<T>>{
         if (n.isLeaf())
             return 0;
         else
-            return Math.max(recursiveHeight(n.leftChild), recursiveHeight(n.rightChild));
+            return 1 + Math.max(recursiveHeight(n.leftChild), recursiveHeight(n.rightChild));
     } // end method recursiveHeight
 
     /**
@@ -170,78 +434,149 @@ public class MyBST<T extends Comparable<T>>{
         if (this.isEmpty()){
             this.root = new Node(data);
             this.size++;
+            return;
         }
-        else
-            recursiveAdd(this.root, data);
+
+        Node currentNode = this.root;
+
+        while (true){
+            int comparison = data.compareTo(currentNode.data);
+
+            if (comparison < 0){                            // if the incoming data is lower than the current node's,
+                if (!currentNode.hasLeftChild()){           // and there's room on the left,
+                    currentNode.setLeftChild(new Node(data));   // insert it there.
+                    break;
+                }
+                currentNode = currentNode.leftChild;        // otherwise, keep going down the left subtree.
+            }
+            else if (comparison > 0){                       // if the incoming data is higher than the current node's,
+                if (!currentNode.hasRightChild()){
+                    currentNode.setRightChild(new Node(data));
+                    break;
+                }
+                currentNode = currentNode.rightChild;
+            }
+            else {                                          // if the incoming data is already in this node,
+                return;                                     // do nothing.
+            }                                               // TODO: you could throw an exception here
+        }
+
+        this.size++;
+        retrace(currentNode);
     } // end method add
 
     /**
-    *   A recursive method that inserts
-    *   a new value into a subtree.
-    *   @param currentNode the root of the subtree into which you're inserting
-    *   @param data the value you're inserting
+    *   Removes a value from this tree.
+    *   @param data the value to be removed
     */
-    private void recursiveAdd(Node currentNode, T data){
-        if (data.compareTo(currentNode.getData()) < 0) {        // if the incoming data is lower than the current node's,
-            sendLeft(currentNode, data);                        // send it down the left subtree.
-        }
-        else if (data.compareTo(currentNode.getData()) > 0) {   // if the incoming data is higher than the current node's,
-            sendRight(currentNode, data);                       // send the data down the right subtree.
-        }
-        else {                                                  // if the incoming data is already in this node,
-            return;                                             // do nothing.
-        }                                                       // TODO: you could throw an exception here
-    } // end method recursiveAdd()
+    public void remove(T data){
+        Node target = findNode(data);
+
+        if (target != null)
+            delete(target);
+    } // end method remove
 
     /**
-    *   Sends a piece of data down a node's
-    *   left subtree, to be inserted somewhere.
+    *   Adds every value from another tree to this one.
+    *
+    *   Rather than inserting the values one at a time,
+    *   this flattens both trees, merges the two sorted
+    *   sequences and rebuilds this tree from scratch,
+    *   which takes O(n + m) time. The result is
+    *   perfectly balanced.
+    *
+    *   @param other the tree whose values are to be added
     */
-    private void sendLeft(Node currentNode, T data){
-        if (currentNode.hasLeftChild())
-            recursiveAdd(currentNode.getLeftChild(), data);
-        else{
-            currentNode.setLeftChild(new Node(data));
-            this.size++;
-        }
-    } // end method sendLeft
+    public void addAll(MyBST<T> other){
+        if (other.isEmpty())
+            return;
+
+        rebuild(merge(this, other));
+    } // end method addAll
+
+    /**
+    *   Builds a new tree containing every value
+    *   in this tree and another one, in O(n + m) time.
+    *   Neither tree is modified.
+    *
+    *   @param other the tree to be merged with this one
+    *   @return a new tree holding the values of both
+    */
+    public MyBST<T> union(MyBST<T> other){
+        MyBST<T> tree = new MyBST<>(this.balanced);
+        tree.rebuild(merge(this, other));
+        return tree;
+    } // end method union
 
     /**
-    *   Sends a piece of data down a node's
-    *   right subtree, to be inserted somewhere.
+    *   Merges the values of two trees into a
+    *   single sorted list, without repeats.
     */
-    private void sendRight(Node currentNode, T data){
-        if (currentNode.hasRightChild())
-            recursiveAdd(currentNode.getRightChild(), data);
-        else{
-            currentNode.setRightChild(new Node(data));
-            size++;
+    private static <T extends Comparable<T>> ArrayList<T> merge(MyBST<T> a, MyBST<T> b){
+        ArrayList<T> values = new ArrayList<>(a.size + b.size);
+        Iterator<T> left = a.iterator();
+        Iterator<T> right = b.iterator();
+        T l = left.hasNext() ? left.next() : null;
+        T r = right.hasNext() ? right.next() : null;
+
+        while (l != null && r != null){
+            int comparison = l.compareTo(r);
+
+            if (comparison <= 0){
+                values.add(l);
+                if (comparison == 0)                    // if both trees hold this value, skip the copy.
+                    r = right.hasNext() ? right.next() : null;
+                l = left.hasNext() ? left.next() : null;
+            } else {
+                values.add(r);
+                r = right.hasNext() ? right.next() : null;
+            }
         }
-    } // end method sendRight
+
+        for (; l != null; l = left.hasNext() ? left.next() : null)     // one of the trees has run out;
+            values.add(l);                                              // copy over what's left of the other.
+        for (; r != null; r = right.hasNext() ? right.next() : null)
+            values.add(r);
+
+        return values;
+    } // end method merge
 
     /**
-    *   Removes a value from this tree.
-    *   @param data the value to be removed
+    *   Replaces the contents of this tree with
+    *   a perfectly balanced tree of sorted values.
+    *
+    *   @param values distinct values in ascending order
     */
-    public void remove(T data){
-        if (this.contains(data))
-            recursiveRemove(this.root, data);
-    } // end method remove
+    private void rebuild(List<T> values){
+        this.root = build(values, 0, values.size()-1, null);
+        this.size = values.size();
+    } // end method rebuild
 
     /**
-    *   Removes a node containing a certain value.
-    *   Assumes the value is actually in this subtree.
-    *   @param currentNode the subtree being searched
-    *   @param data the value to be removed
+    *   Recursively builds a balanced subtree out of
+    *   a slice of a sorted list, using the middle
+    *   value as its root. The recursion only goes
+    *   O(log n) levels deep.
+    *
+    *   @param values distinct values in ascending order
+    *   @param lo the index of the slice's first value
+    *   @param hi the index of the slice's last value
+    *   @param parent the parent of the new subtree
+    *   @return the root of the new subtree, or null if the slice is empty
     */
-    private void recursiveRemove(Node currentNode, T data){
-        if (currentNode.data.equals(data))                  // base case: it's here!
-            delete(currentNode);
-        else if (data.compareTo(currentNode.data) < 0)      // if the current node's value is too high,
-            recursiveRemove(currentNode.leftChild, data);   // remove from the left subtree.
-        else                                                // if the current node's value is too low,
-            recursiveRemove(currentNode.rightChild, data);  // remove from the right subtree.
-    } // end method recursiveRemove
+    private Node build(List<T> values, int lo, int hi, Node parent){
+        if (lo > hi)
+            return null;
+
+        int mid = (lo + hi) >>> 1;
+        Node n = new Node(values.get(mid));
+        n.parent = parent;
+        n.leftChild = build(values, lo, mid-1, n);
+        n.rightChild = build(values, mid+1, hi, n);
+        update(n);
+
+        return n;
+    } // end method build
 
     /**
     *   Removes this node's value from the tree.
@@ -266,12 +601,14 @@ public class MyBST<T extends Comparable<T>>{
     private void deleteRoot(){
         if (root.isLeaf()){
             root = null;
+            this.size--;
         } else if (root.hasOneChild()){
             root = root.onlyChild();
+            root.setParent(null);
+            this.size--;
         } else { // if root has two children:
-            deleteNodeWithTwoChildren(root);
+            deleteNodeWithTwoChildren(root); // (which updates the size itself)
         }
-        this.size--;
     } // end method deleteRoot
 
     /**
@@ -282,6 +619,7 @@ public class MyBST<T extends Comparable<T>>{
     private void deleteLeaf(Node n){
         n.parent.replaceChild(n, null);
         this.size--;
+        retrace(n.parent);
     } // end method deleteLeaf
 
     /**
@@ -293,6 +631,7 @@ public class MyBST<T extends Comparable<T>>{
         n.onlyChild().setParent(n.parent);          // Your child's parent becomes your parent,
         n.parent.replaceChild(n, n.onlyChild());    // and your child replaces you as your parent's child.
         this.size--;
+        retrace(n.parent);
     } // end method deleteNodeWithOneChild
 
     /**
@@ -300,11 +639,241 @@ public class MyBST<T extends Comparable<T>>{
     *   @param n a node with two children
     */
     private void deleteNodeWithTwoChildren(Node n){
-        Node temp = recursiveMax(n.leftChild);
+        Node temp = maximum(n.leftChild);
         n.data = temp.data;
         delete(temp);
     } // end method deleteNodeWithTwoChildren
 
+    /**
+    *   Walks from some node back up to the root,
+    *   refreshing each node's size and height.
+    *   If this tree is self-balancing, also rotates
+    *   any node whose subtrees differ in height by
+    *   more than one.
+    *
+    *   @param n the lowest node whose subtree has changed
+    */
+    private void retrace(Node n){
+        while (n != null){
+            update(n);
+            if (this.balanced)
+                n = balance(n);
+            n = n.parent;
+        }
+    } // end method retrace
+
+    /**
+    *   Rotates a node whose subtrees differ in
+    *   height by more than one.
+    *
+    *   @param n a node whose children are balanced
+    *   @return the node now at n's position
+    */
+    private Node balance(Node n){
+        int balance = balanceFactor(n);
+
+        if (balance > 1){                               // if the left side is too tall,
+            if (balanceFactor(n.leftChild) < 0)         // and it leans right (the zig-zag case),
+                rotateLeft(n.leftChild);                // straighten it out first.
+            return rotateRight(n);
+        } else if (balance < -1){                       // if the right side is too tall,
+            if (balanceFactor(n.rightChild) > 0)        // and it leans left,
+                rotateRight(n.rightChild);              // straighten it out first.
+            return rotateLeft(n);
+        }
+
+        return n;
+    } // end method balance
+
+    /**
+    *   Rotates a subtree to the left: n's right
+    *   child takes n's place, and n becomes its
+    *   left child.
+    *
+    *   @param n the root of the subtree; must have a right child
+    *   @return the new root of the subtree
+    */
+    private Node rotateLeft(Node n){
+        Node pivot = n.rightChild;
+
+        n.rightChild = pivot.leftChild;
+        if (pivot.hasLeftChild())
+            pivot.leftChild.parent = n;
+
+        replaceInParent(n, pivot);
+        pivot.leftChild = n;
+        n.parent = pivot;
+
+        update(n);
+        update(pivot);
+        return pivot;
+    } // end method rotateLeft
+
+    /**
+    *   Rotates a subtree to the right: n's left
+    *   child takes n's place, and n becomes its
+    *   right child.
+    *
+    *   @param n the root of the subtree; must have a left child
+    *   @return the new root of the subtree
+    */
+    private Node rotateRight(Node n){
+        Node pivot = n.leftChild;
+
+        n.leftChild = pivot.rightChild;
+        if (pivot.hasRightChild())
+            pivot.rightChild.parent = n;
+
+        replaceInParent(n, pivot);
+        pivot.rightChild = n;
+        n.parent = pivot;
+
+        update(n);
+        update(pivot);
+        return pivot;
+    } // end method rotateRight
+
+    /**
+    *   Hooks a node into the spot in this tree
+    *   currently occupied by another node.
+    *
+    *   @param old the node being displaced
+    *   @param replacement the node taking its place
+    */
+    private void replaceInParent(Node old, Node replacement){
+        replacement.parent = old.parent;
+
+        if (old.parent == null)
+            this.root = replacement;
+        else
+            old.parent.replaceChild(old, replacement);
+    } // end method replaceInParent
+
+    /**
+    *   @return the height stored in a node,
+    *           or -1 if the node doesn't exist
+    */
+    private int height(Node n){
+        return (n == null) ? -1 : n.height;
+    } // end method height
+
+    /**
+    *   @return the number of nodes in a subtree,
+    *           or 0 if the subtree doesn't exist
+    */
+    private int size(Node n){
+        return (n == null) ? 0 : n.subtreeSize;
+    } // end method size
+
+    /**
+    *   Recomputes a node's height and subtree size
+    *   from those of its children.
+    */
+    private void update(Node n){
+        n.height = 1 + Math.max(height(n.leftChild), height(n.rightChild));
+        n.subtreeSize = 1 + size(n.leftChild) + size(n.rightChild);
+    } // end method update
+
+    /**
+    *   @return how much taller a node's left
+    *           subtree is than its right subtree
+    */
+    private int balanceFactor(Node n){
+        return height(n.leftChild) - height(n.rightChild);
+    } // end method balanceFactor
+
+    /**
+    *   Returns an iterator over the values in
+    *   this tree, in order. The iterator walks the
+    *   parent links instead of building a list, so
+    *   it costs O(1) extra memory.
+    *
+    *   The tree must not be modified while the
+    *   iteration is in progress.
+    */
+    @Override
+    public Iterator<T> iterator(){
+        return new InOrderIterator();
+    } // end method iterator
+
+    /**
+    *   Returns a spliterator over the values in
+    *   this tree, in order.
+    */
+    @Override
+    public Spliterator<T> spliterator(){
+        return Spliterators.spliterator(iterator(), this.size,
+            Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    } // end method spliterator
+
+    /**
+    *   @return a sequential stream of the values
+    *           in this tree, in order
+    */
+    public Stream<T> stream(){
+        return StreamSupport.stream(spliterator(), false);
+    } // end method stream
+
+    /**
+    *   Hands every value in this tree to some
+    *   action, in order. Allocates nothing.
+    *
+    *   @param action the action to be performed on each value
+    */
+    public void forEachInOrder(Consumer<? super T> action){
+        Node currentNode = minimum(this.root);
+
+        while (currentNode != null){
+            action.accept(currentNode.data);
+            currentNode = successor(currentNode);
+        }
+    } // end method forEachInOrder
+
+    @Override
+    public void forEach(Consumer<? super T> action){
+        forEachInOrder(action);
+    } // end method forEach
+
+    /**
+    *   Finds the node that comes right after
+    *   some node, in order.
+    *
+    *   @param n a node in this tree
+    *   @return the next node, or null if n holds the highest value
+    */
+    private Node successor(Node n){
+        if (n.hasRightChild())                          // if there's a right subtree,
+            return minimum(n.rightChild);               // the next node is the leftmost one in it.
+
+        Node ancestor = n.parent;
+        while (ancestor != null && n == ancestor.rightChild){   // otherwise, climb until you
+            n = ancestor;                                       // come up from a left child.
+            ancestor = ancestor.parent;
+        }
+
+        return ancestor;
+    } // end method successor
+
+    /**
+    *   Finds the node that comes right before
+    *   some node, in order.
+    *
+    *   @param n a node in this tree
+    *   @return the previous node, or null if n holds the lowest value
+    */
+    private Node predecessor(Node n){
+        if (n.hasLeftChild())
+            return maximum(n.leftChild);
+
+        Node ancestor = n.parent;
+        while (ancestor != null && n == ancestor.leftChild){
+            n = ancestor;
+            ancestor = ancestor.parent;
+        }
+
+        return ancestor;
+    } // end method predecessor
+
     /**
     *   Returns an iterable list containing every
     *   node in this Tree, in order.
@@ -314,20 +883,26 @@ public class MyBST<T extends Comparable<T>>{
     } // end method inOrderTraversal
 
     /**
-    *   Recursively generates an iterable list
-    *   of every node in this tree, in order.
+    *   Generates an iterable list of every
+    *   node in some subtree, in order.
     */
     public ArrayList<Node> inOrderTraversal(Node currentNode){
-        ArrayList<Node> list = new ArrayList();
+        ArrayList<Node> list = new ArrayList<>();
+        inOrderTraversal(currentNode, list);
+        return list;
+    } // end method inOrderTraversal
 
+    /**
+    *   Recursively appends every node in some
+    *   subtree to a list, in order.
+    */
+    private void inOrderTraversal(Node currentNode, ArrayList<Node> list){
         if (currentNode == null)
-            return list;
+            return;
 
-        list.addAll(inOrderTraversal(currentNode.leftChild));
+        inOrderTraversal(currentNode.leftChild, list);
         list.add(currentNode);
-        list.addAll(inOrderTraversal(currentNode.rightChild));
-
-        return list;
+        inOrderTraversal(currentNode.rightChild, list);
     } // end method inOrderTraversal
 
     /**
@@ -339,21 +914,27 @@ public class MyBST<T extends Comparable<T>>{
     } // end method preOrderTraversal
 
     /**
-    *   Recursively generates an iterable list
-    *   of every node in this tree, in pre-order.
+    *   Generates an iterable list of every
+    *   node in some subtree, in pre-order.
     */
     public ArrayList<Node> preOrderTraversal(Node currentNode){
-        ArrayList<Node> list = new ArrayList();
+        ArrayList<Node> list = new ArrayList<>();
+        preOrderTraversal(currentNode, list);
+        return list;
+    } // end method preOrderTraversal
 
+    /**
+    *   Recursively appends every node in some
+    *   subtree to a list, in pre-order.
+    */
+    private void preOrderTraversal(Node currentNode, ArrayList<Node> list){
         if (currentNode == null)
-            return list;
+            return;
 
         list.add(currentNode);
-        list.addAll(preOrderTraversal(currentNode.leftChild));
-        list.addAll(preOrderTraversal(currentNode.rightChild));
-
-        return list;
-    } // end method preOrderTraversalTraversal
+        preOrderTraversal(currentNode.leftChild, list);
+        preOrderTraversal(currentNode.rightChild, list);
+    } // end method preOrderTraversal
 
     /**
     *   Returns an iterable list containing every
@@ -364,20 +945,26 @@ public class MyBST<T extends Comparable<T>>{
     } // end method postOrder
 
     /**
-    *   Recursively generates an iterable list
-    *   of every node in this tree, in post-order.
+    *   Generates an iterable list of every
+    *   node in some subtree, in post-order.
     */
     public ArrayList<Node> postOrderTraversal(Node currentNode){
-        ArrayList<Node> list = new ArrayList();
+        ArrayList<Node> list = new ArrayList<>();
+        postOrderTraversal(currentNode, list);
+        return list;
+    } // end method postOrderTraversal
 
+    /**
+    *   Recursively appends every node in some
+    *   subtree to a list, in post-order.
+    */
+    private void postOrderTraversal(Node currentNode, ArrayList<Node> list){
         if (currentNode == null)
-            return list;
+            return;
 
-        list.addAll(preOrderTraversal(currentNode.leftChild));
-        list.addAll(preOrderTraversal(currentNode.rightChild));
+        postOrderTraversal(currentNode.leftChild, list);
+        postOrderTraversal(currentNode.rightChild, list);
         list.add(currentNode);
-
-        return list;
     } // end method postOrderTraversal
 
     /**
@@ -457,11 +1044,15 @@ public class MyBST<T extends Comparable<T>>{
         private Node parent;
         private Node leftChild;
         private Node rightChild;
+        private int height;
+        private int subtreeSize; // the number of nodes in the subtree rooted here
 
         public Node(T data){
             this.data = data;
             this.leftChild = null;
             this.rightChild = null;
+            this.height = 0;
+            this.subtreeSize = 1;
         } // end constructor
 
         public void setData(T data){
@@ -517,7 +1108,7 @@ public class MyBST<T extends Comparable<T>>{
         } // end method hasRightChild
 
         public boolean isRoot(){
-            return (root.data == this.data);
+            return (root == this);
         } // end method isRoot
 
         public boolean isLeaf(){
@@ -564,4 +1155,58 @@ public class MyBST<T extends Comparable<T>>{
             return "" + this.data;
         } // end method toString
     } // end inner class Node
+
+    /**
+    *   Walks this tree in order by following
+    *   successor (or predecessor) links, one node
+    *   at a time, optionally stopping at a bound.
+    */
+    private class InOrderIterator implements Iterator<T>{
+        private Node next;
+        private T stop;             // the last value to be returned, or null for no bound
+        private boolean ascending;
+
+        public InOrderIterator(){
+            this(minimum(root), null, true);
+        } // end constructor
+
+        /**
+        *   @param start the first node to be visited, or null
+        *   @param stop the bound past which to stop, or null
+        *   @param ascending 'true' to walk towards higher values
+        */
+        public InOrderIterator(Node start, T stop, boolean ascending){
+            this.stop = stop;
+            this.ascending = ascending;
+            this.next = withinBound(start);
+        } // end constructor
+
+        @Override
+        public boolean hasNext(){
+            return (this.next != null);
+        } // end method hasNext
+
+        @Override
+        public T next(){
+            if (this.next == null)
+                throw new NoSuchElementException();
+
+            T data = this.next.data;
+            this.next = withinBound(ascending ? successor(this.next) : predecessor(this.next));
+            return data;
+        } // end method next
+
+        /**
+        *   @return n, or null if n lies past the bound
+        */
+        private Node withinBound(Node n){
+            if (n == null || this.stop == null)
+                return n;
+
+            int comparison = n.data.compareTo(this.stop);
+            if (ascending ? comparison > 0 : comparison < 0)
+                return null;
+            return n;
+        } // end method withinBound
+    } // end inner class InOrderIterator
 } // end class
@@ -0,0 +1,486 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+*   This class implements a B-tree: an ordered set
+*   whose nodes each hold many keys, packed into
+*   arrays, rather than just one.
+*
+*   Every node except the root holds between t-1 and
+*   2t-1 keys, where t (the "minimum degree") is chosen
+*   at construction, and every leaf sits at the same
+*   depth. A wide node means a short tree, so a lookup
+*   touches only log_t(n) nodes, and each node's keys
+*   sit next to each other in memory instead of being
+*   scattered across one object per key.
+*
+*   Nodes are split on the way down during insertion
+*   and topped up on the way down during deletion, so
+*   both operations make a single pass from the root.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyBTree<T extends Comparable<T>> implements Iterable<T>{
+    private final int t;    // the minimum degree
+    private Node root;
+    private int size;
+
+    /**
+    *   Builds an empty B-tree with up to
+    *   64 children per node.
+    */
+    public MyBTree(){
+        this(32);
+    } // end constructor
+
+    /**
+    *   Builds an empty B-tree.
+    *   @param minimumDegree t, so that each node has up to
+    *                        2t children and 2t-1 keys; at least 2
+    */
+    public MyBTree(int minimumDegree){
+        if (minimumDegree < 2)
+            throw new IllegalArgumentException("minimum degree must be at least 2: " + minimumDegree);
+
+        this.t = minimumDegree;
+        this.root = new Node(true);
+        this.size = 0;
+    } // end constructor
+
+    public int getSize(){
+        return this.size;
+    } // end method getSize
+
+    /**
+    *   Tests if this tree is empty.
+    *   @return 'true' if this tree is empty
+    */
+    public boolean isEmpty(){
+        return (this.size == 0);
+    } // end method isEmpty
+
+    /**
+    *   Tests if this tree contains some value.
+    *   @param value the value to be searched for
+    *   @return 'true' if the value exists in this tree
+    */
+    public boolean contains(T value){
+        Node currentNode = this.root;
+
+        while (true){
+            int i = currentNode.search(value);
+
+            if (i >= 0)
+                return true;
+            if (currentNode.leaf)
+                return false;
+
+            currentNode = currentNode.children[-(i + 1)];
+        }
+    } // end method contains
+
+    /**
+    *   Finds the lowest-ordered value
+    *   in this tree.
+    *   @return the lowest value, or null if this tree is empty
+    */
+    public T getMinimum(){
+        if (this.isEmpty())
+            return null;
+
+        Node currentNode = this.root;
+        while (!currentNode.leaf)
+            currentNode = currentNode.children[0];
+
+        return currentNode.key(0);
+    } // end method getMinimum
+
+    /**
+    *   Finds the highest-ordered value
+    *   in this tree.
+    *   @return the highest value, or null if this tree is empty
+    */
+    public T getMaximum(){
+        if (this.isEmpty())
+            return null;
+
+        Node currentNode = this.root;
+        while (!currentNode.leaf)
+            currentNode = currentNode.children[currentNode.keyCount];
+
+        return currentNode.key(currentNode.keyCount - 1);
+    } // end method getMaximum
+
+    /**
+    *   Inserts new data in this tree,
+    *   unless it's already in there.
+    */
+    public void add(T data){
+        if (this.root.isFull()){                // if the root is full, split it first;
+            Node newRoot = new Node(false);     // this is the only way the tree gets taller.
+            newRoot.children[0] = this.root;
+            this.root = newRoot;
+            splitChild(newRoot, 0);
+        }
+
+        Node currentNode = this.root;
+
+        while (true){
+            int i = currentNode.search(data);
+            if (i >= 0)                         // if it's already in here,
+                return;                         // do nothing.
+            i = -(i + 1);
+
+            if (currentNode.leaf){
+                currentNode.insertKey(i, data);
+                this.size++;
+                return;
+            }
+
+            if (currentNode.children[i].isFull()){  // make sure there's room below before going down.
+                splitChild(currentNode, i);
+
+                int comparison = data.compareTo(currentNode.key(i));
+                if (comparison == 0)
+                    return;
+                if (comparison > 0)
+                    i++;
+            }
+
+            currentNode = currentNode.children[i];
+        }
+    } // end method add
+
+    /**
+    *   Removes a value from this tree.
+    *   @param data the value to be removed
+    */
+    public void remove(T data){
+        Node currentNode = this.root;
+
+        while (true){
+            int i = currentNode.search(data);
+
+            if (i >= 0 && currentNode.leaf){            // case 1: it's in a leaf.
+                currentNode.removeKey(i);
+                this.size--;
+                break;
+            }
+            else if (i >= 0){                           // case 2: it's in an internal node.
+                Node left = currentNode.children[i];
+                Node right = currentNode.children[i+1];
+
+                if (left.keyCount >= t){                // if the left child can spare a key,
+                    T predecessor = maximum(left);      // replace the value with its predecessor,
+                    currentNode.keys[i] = predecessor;  // and delete the predecessor instead.
+                    data = predecessor;
+                    currentNode = left;
+                }
+                else if (right.keyCount >= t){          // same thing on the right.
+                    T successor = minimum(right);
+                    currentNode.keys[i] = successor;
+                    data = successor;
+                    currentNode = right;
+                }
+                else {                                  // if neither can, merge them around the value
+                    merge(currentNode, i);              // and delete it from the merged node.
+                    currentNode = left;
+                }
+            }
+            else {                                      // case 3: it's further down, if anywhere.
+                if (currentNode.leaf)
+                    break;
+
+                i = -(i + 1);
+                if (currentNode.children[i].keyCount < t)   // make sure the child can spare a key before going down.
+                    i = fill(currentNode, i);
+                currentNode = currentNode.children[i];
+            }
+        }
+
+        if (this.root.keyCount == 0 && !this.root.leaf)     // if the root has emptied out,
+            this.root = this.root.children[0];              // the tree gets shorter.
+    } // end method remove
+
+    /**
+    *   Returns an iterator over the values
+    *   in this tree, in order.
+    *
+    *   The tree must not be modified while the
+    *   iteration is in progress.
+    */
+    @Override
+    public Iterator<T> iterator(){
+        return new InOrderIterator();
+    } // end method iterator
+
+    /**
+    *   Splits a full child of some node in two,
+    *   moving the child's middle key up into the node.
+    *
+    *   @param parent a node that isn't full
+    *   @param i the index of the full child
+    */
+    private void splitChild(Node parent, int i){
+        Node child = parent.children[i];
+        Node sibling = new Node(child.leaf);
+
+        System.arraycopy(child.keys, t, sibling.keys, 0, t-1);          // the upper half of the keys
+        if (!child.leaf)                                                // (and children) go to the new sibling.
+            System.arraycopy(child.children, t, sibling.children, 0, t);
+        sibling.keyCount = t-1;
+
+        T middle = child.key(t-1);
+        Arrays.fill(child.keys, t-1, 2*t-1, null);
+        if (!child.leaf)
+            Arrays.fill(child.children, t, 2*t, null);
+        child.keyCount = t-1;
+
+        parent.insertKey(i, middle);
+        parent.insertChild(i+1, sibling);
+    } // end method splitChild
+
+    /**
+    *   Merges two neighbouring children of some node,
+    *   along with the key that separates them.
+    *   Assumes each child has exactly t-1 keys.
+    *
+    *   @param parent the node whose children are merged
+    *   @param i the index of the left child
+    */
+    private void merge(Node parent, int i){
+        Node left = parent.children[i];
+        Node right = parent.children[i+1];
+
+        left.keys[left.keyCount] = parent.keys[i];
+        System.arraycopy(right.keys, 0, left.keys, left.keyCount + 1, right.keyCount);
+        if (!left.leaf)
+            System.arraycopy(right.children, 0, left.children, left.keyCount + 1, right.keyCount + 1);
+        left.keyCount += right.keyCount + 1;
+
+        parent.removeKey(i);
+        parent.removeChild(i+1);
+    } // end method merge
+
+    /**
+    *   Tops up a child that has only t-1 keys,
+    *   either by borrowing a key through the parent
+    *   from a sibling that can spare one, or by
+    *   merging it with a sibling.
+    *
+    *   @param parent the node whose child is topped up
+    *   @param i the index of the child
+    *   @return the index of the child that now holds
+    *           the keys of the original child
+    */
+    private int fill(Node parent, int i){
+        Node child = parent.children[i];
+
+        if (i > 0 && parent.children[i-1].keyCount >= t){       // borrow from the left sibling.
+            Node sibling = parent.children[i-1];
+            child.insertKey(0, parent.key(i-1));
+            if (!child.leaf)
+                child.insertChild(0, sibling.children[sibling.keyCount]);
+            parent.keys[i-1] = sibling.keys[sibling.keyCount-1];
+            if (!sibling.leaf)
+                sibling.children[sibling.keyCount] = null;
+            sibling.keys[--sibling.keyCount] = null;
+            return i;
+        }
+
+        if (i < parent.keyCount && parent.children[i+1].keyCount >= t){   // borrow from the right sibling.
+            Node sibling = parent.children[i+1];
+            child.keys[child.keyCount] = parent.keys[i];
+            if (!child.leaf)
+                child.children[child.keyCount + 1] = sibling.children[0];
+            child.keyCount++;
+            parent.keys[i] = sibling.keys[0];
+            sibling.removeKey(0);
+            if (!sibling.leaf)
+                sibling.removeChild(0);
+            return i;
+        }
+
+        if (i < parent.keyCount){       // otherwise, merge with a sibling.
+            merge(parent, i);
+            return i;
+        } else {
+            merge(parent, i-1);
+            return i-1;
+        }
+    } // end method fill
+
+    /**
+    *   @return the lowest value in a subtree
+    */
+    private T minimum(Node n){
+        while (!n.leaf)
+            n = n.children[0];
+        return n.key(0);
+    } // end method minimum
+
+    /**
+    *   @return the highest value in a subtree
+    */
+    private T maximum(Node n){
+        while (!n.leaf)
+            n = n.children[n.keyCount];
+        return n.key(n.keyCount - 1);
+    } // end method maximum
+
+    /**
+    *   This inner class provides Nodes for
+    *   a B-tree. A node with k keys has
+    *   k+1 children, unless it's a leaf.
+    */
+    private class Node{
+        private Object[] keys;
+        private Node[] children;    // null for leaves
+        private int keyCount;
+        private boolean leaf;
+
+        @SuppressWarnings("unchecked")
+        public Node(boolean leaf){
+            this.keys = new Object[2*t - 1];
+            this.children = leaf ? null : (Node[]) new MyBTree<?>.Node[2*t];
+            this.keyCount = 0;
+            this.leaf = leaf;
+        } // end constructor
+
+        @SuppressWarnings("unchecked")
+        public T key(int i){
+            return (T) this.keys[i];
+        } // end method key
+
+        public boolean isFull(){
+            return (this.keyCount == this.keys.length);
+        } // end method isFull
+
+        /**
+        *   Binary-searches this node's keys.
+        *
+        *   @param value the value to be searched for
+        *   @return the index of the value, if it's here;
+        *           otherwise, -(insertion point) - 1
+        */
+        public int search(T value){
+            int lo = 0;
+            int hi = this.keyCount - 1;
+
+            while (lo <= hi){
+                int mid = (lo + hi) >>> 1;
+                int comparison = value.compareTo(key(mid));
+
+                if (comparison == 0)
+                    return mid;
+                else if (comparison < 0)
+                    hi = mid - 1;
+                else
+                    lo = mid + 1;
+            }
+
+            return -(lo + 1);
+        } // end method search
+
+        public void insertKey(int i, T key){
+            System.arraycopy(this.keys, i, this.keys, i+1, this.keyCount - i);
+            this.keys[i] = key;
+            this.keyCount++;
+        } // end method insertKey
+
+        public void removeKey(int i){
+            System.arraycopy(this.keys, i+1, this.keys, i, this.keyCount - i - 1);
+            this.keys[--this.keyCount] = null;
+        } // end method removeKey
+
+        /**
+        *   Shifts children right to make room for a new one.
+        *   Call after insertKey, so keyCount already
+        *   reflects the new number of children.
+        */
+        public void insertChild(int i, Node child){
+            System.arraycopy(this.children, i, this.children, i+1, this.keyCount - i);
+            this.children[i] = child;
+        } // end method insertChild
+
+        /**
+        *   Shifts children left over a removed one.
+        *   Call after removeKey, so keyCount already
+        *   reflects the new number of children.
+        */
+        public void removeChild(int i){
+            System.arraycopy(this.children, i+1, this.children, i, this.keyCount + 1 - i);
+            this.children[this.keyCount + 1] = null;
+        } // end method removeChild
+    } // end inner class Node
+
+    /**
+    *   Walks this tree in order, keeping the path
+    *   to the current key on a stack of (node, index)
+    *   pairs. The tree is short, so the stack is too.
+    */
+    private class InOrderIterator implements Iterator<T>{
+        private Node[] nodes;
+        private int[] indexes;
+        private int depth;
+
+        @SuppressWarnings("unchecked")
+        public InOrderIterator(){
+            int height = 1;
+            for (Node n = root; !n.leaf; n = n.children[0])
+                height++;
+
+            this.nodes = (Node[]) new MyBTree<?>.Node[height];
+            this.indexes = new int[height];
+            this.depth = 0;
+            if (root.keyCount > 0)
+                pushLeftSpine(root);
+        } // end constructor
+
+        @Override
+        public boolean hasNext(){
+            return (this.depth > 0);
+        } // end method hasNext
+
+        @Override
+        public T next(){
+            if (this.depth == 0)
+                throw new NoSuchElementException();
+
+            Node n = this.nodes[depth-1];
+            int i = this.indexes[depth-1];
+            T data = n.key(i);
+
+            if (i + 1 < n.keyCount)                 // move on to the next key in this node,
+                this.indexes[depth-1] = i + 1;
+            else                                    // or, if that was the last one, pop this node.
+                this.nodes[--depth] = null;
+
+            if (!n.leaf)                            // either way, the subtree between the two keys comes next.
+                pushLeftSpine(n.children[i+1]);
+
+            return data;
+        } // end method next
+
+        /**
+        *   Pushes a node and all of its leftmost
+        *   descendants onto the stack.
+        */
+        private void pushLeftSpine(Node n){
+            while (true){
+                this.nodes[depth] = n;
+                this.indexes[depth] = 0;
+                depth++;
+                if (n.leaf)
+                    return;
+                n = n.children[0];
+            }
+        } // end method pushLeftSpine
+    } // end inner class InOrderIterator
+} // end class
@@ -0,0 +1,353 @@
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+*   This class implements a bounded, thread-safe FIFO
+*   queue, built on MyQueue, that makes threads wait
+*   instead of spinning or running out of memory.
+*
+*   A consumer that takes from an empty queue waits
+*   until something is put in, and a producer that puts
+*   into a full queue waits until something is taken out
+*   ("backpressure"). Each wait has a timed version that
+*   gives up after a while, and elements can also be
+*   moved in and out in batches, under one lock.
+*
+*   Waiting is done with a ReentrantLock and two
+*   Conditions rather than synchronized and wait/notify,
+*   so a waiting virtual thread parks and gives its
+*   carrier thread back, rather than pinning it.
+*
+*   The queue also keeps some counters for tuning:
+*   its high-water mark, and how long producers and
+*   consumers have spent waiting, in total.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyBlockingQueue<T>{
+    private final MyQueue<T> queue;
+    private final int capacity;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;       // consumers wait here
+    private final Condition notFull;        // producers wait here
+
+    private int highWaterMark;
+    private long producerWaitNanos;
+    private long consumerWaitNanos;
+
+    /**
+        @param capacity the most elements the queue can hold
+    */
+    public MyBlockingQueue(int capacity){
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be at least 1: " + capacity);
+
+        this.queue = new MyQueue<T>(Math.min(capacity, 1024));
+        this.capacity = capacity;
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+    }
+
+    public int capacity(){return capacity;}
+
+    public int size(){
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty(){return size() == 0;}
+
+    public int remainingCapacity(){return capacity - size();}
+
+    /**
+        @return the most elements this queue
+                has ever held at once
+    */
+    public int highWaterMark(){
+        lock.lock();
+        try {
+            return highWaterMark;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+        @return the total time producers have spent
+                waiting for room, in nanoseconds
+    */
+    public long producerWaitNanos(){
+        lock.lock();
+        try {
+            return producerWaitNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+        @return the total time consumers have spent
+                waiting for elements, in nanoseconds
+    */
+    public long consumerWaitNanos(){
+        lock.lock();
+        try {
+            return consumerWaitNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+        Adds an element to the end of the queue,
+        waiting for room if it's full.
+        @throws InterruptedException if interrupted while waiting
+    */
+    public void put(T element) throws InterruptedException{
+        if (element == null) throw new IllegalArgumentException("null element");
+
+        lock.lockInterruptibly();
+        try {
+            if (queue.size() == capacity) {
+                long start = System.nanoTime();
+                try {
+                    while (queue.size() == capacity) {
+                        notFull.await();
+                    }
+                } finally {
+                    producerWaitNanos += System.nanoTime() - start;
+                }
+            }
+            add(element);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+        Adds an element to the end of the queue,
+        if there's room right now.
+        @return 'false' if the queue is full
+    */
+    public boolean offer(T element){
+        if (element == null) throw new IllegalArgumentException("null element");
+
+        lock.lock();
+        try {
+            if (queue.size() == capacity) return false;
+
+            add(element);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+        Adds an element to the end of the queue, waiting
+        up to some amount of time for room if it's full.
+        @return 'false' if there was still no room when time ran out
+        @throws InterruptedException if interrupted while waiting
+    */
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException{
+        if (element == null) throw new IllegalArgumentException("null element");
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            if (queue.size() == capacity) {
+                long start = System.nanoTime();
+                try {
+                    while (queue.size() == capacity) {
+                        if (nanos <= 0) return false;
+                        nanos = notFull.awaitNanos(nanos);
+                    }
+                } finally {
+                    producerWaitNanos += System.nanoTime() - start;
+                }
+            }
+            add(element);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+        Removes the element at the front of the queue,
+        waiting for one if it's empty.
+        @throws InterruptedException if interrupted while waiting
+    */
+    public T take() throws InterruptedException{
+        lock.lockInterruptibly();
+        try {
+            if (queue.isEmpty()) {
+                long start = System.nanoTime();
+                try {
+                    while (queue.isEmpty()) {
+                        notEmpty.await();
+                    }
+                } finally {
+                    consumerWaitNanos += System.nanoTime() - start;
+                }
+            }
+            T element = queue.dequeue();
+            notFull.signal();
+            return element;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+        Removes the element at the front of the
+        queue, if there is one right now.
+        @return the first in line, or null if the queue is empty
+    */
+    public T poll(){
+        lock.lock();
+        try {
+            if (queue.isEmpty()) return null;
+
+            T element = queue.dequeue();
+            notFull.signal();
+            return element;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+        Removes the element at the front of the queue,
+        waiting up to some amount of time for one if
+        it's empty.
+        @return the first in line, or null if time ran out
+        @throws InterruptedException if interrupted while waiting
+    */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException{
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            if (queue.isEmpty()) {
+                long start = System.nanoTime();
+                try {
+                    while (queue.isEmpty()) {
+                        if (nanos <= 0) return null;
+                        nanos = notEmpty.awaitNanos(nanos);
+                    }
+                } finally {
+                    consumerWaitNanos += System.nanoTime() - start;
+                }
+            }
+            T element = queue.dequeue();
+            notFull.signal();
+            return element;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+        Retrieves, but does not remove, the
+        element at the front of the queue.
+        @return the first in line, or null if the queue is empty
+    */
+    public T peek(){
+        lock.lock();
+        try {
+            return queue.peek();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+        Removes up to some number of elements from the
+        front of the queue, in order, and adds them to a
+        collection, all under one lock. Doesn't wait.
+
+        @param destination where to put the elements
+        @param maxElements the most elements to move
+        @return the number of elements moved
+    */
+    public int drainTo(Collection<? super T> destination, int maxElements){
+        lock.lock();
+        try {
+            int count = 0;
+            while (count < maxElements && !queue.isEmpty()) {
+                destination.add(queue.dequeue());
+                count++;
+            }
+
+            if (count > 0) notFull.signalAll();
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+        Adds every element of a collection to the end of
+        the queue, in order, waiting for room whenever it's
+        full. As many elements as fit go in under each lock.
+
+        @param elements the elements to be added
+        @throws IllegalArgumentException if any element is null,
+                                         in which case none are added
+        @throws InterruptedException if interrupted while waiting;
+                                     some of the elements may already be in
+    */
+    public void enqueueAll(Collection<? extends T> elements) throws InterruptedException{
+        for (T element : elements) {                // Check the whole batch before any of it goes in.
+            if (element == null) throw new IllegalArgumentException("null element");
+        }
+
+        lock.lockInterruptibly();
+        int added = 0;
+        try {
+            for (T element : elements) {
+                if (queue.size() == capacity) {
+                    notEmpty.signalAll();           // Let consumers at what's already in,
+                    long start = System.nanoTime();
+                    try {
+                        while (queue.size() == capacity) {
+                            notFull.await();        // and wait for them to make room.
+                        }
+                    } finally {
+                        producerWaitNanos += System.nanoTime() - start;
+                    }
+                }
+                add(element);
+                added++;
+            }
+        } finally {
+            if (added > 0)                          // (even if interrupted partway)
+                notEmpty.signalAll();
+            lock.unlock();
+        }
+    }
+
+    /**
+        Adds an element and updates the high-water
+        mark. Assumes the lock is held and there's room.
+    */
+    private void add(T element){
+        queue.enqueue(element);
+        if (queue.size() > highWaterMark)
+            highWaterMark = queue.size();
+    }
+} // end class
@@ -0,0 +1,334 @@
+import java.util.HashMap;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+*   This class implements a bounded cache, which
+*   evicts entries by frequency of use (LFU) or by
+*   time of expiry (TTL).
+*
+*   A hash map finds the entry for a key, and an
+*   indexed min-heap keeps every entry in eviction
+*   order, so the next victim is always at the top.
+*   In LFU mode, the heap is ordered by how often each
+*   entry has been used, and then by how long ago; in
+*   TTL mode, by when each entry expires. Because the
+*   heap is indexed, a hit can move its entry to its
+*   new place in O(log n) time, rather than O(n).
+*
+*   The cache can be limited by the number of entries,
+*   by their total weight, or both. Either way, an entry
+*   that's been around longer than its time-to-live is
+*   treated as missing, and expired entries are always
+*   dropped before any live one is evicted. (An LFU
+*   cache with a time-to-live keeps a second heap, of
+*   its entries by expiry, to find them.)
+*
+*   This class isn't thread-safe.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyCache<K, V>{
+    /**
+    *   How the cache chooses what to evict.
+    */
+    public enum Policy{
+        LFU,    // the least frequently used entry (the least recently used, among ties)
+        TTL     // the entry closest to expiring
+    } // end enum Policy
+
+    private final Policy policy;
+    private final int maxSize;
+    private final long maxWeight;
+    private final ToLongFunction<? super V> weigher;
+    private final long timeToLive;      // in the clock's units; 0 or less for no expiry
+    private final LongSupplier clock;
+
+    private final HashMap<K, Entry> entries;
+    private final MyIndexedMinHeap<Entry> evictionOrder;
+    private final MyIndexedMinHeap<Expiry> expiryOrder;     // only for LFU with a time-to-live; else null
+    private long weight;
+    private long accesses;              // a counter that orders accesses, for breaking ties
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+    *   Builds an LFU cache holding up to
+    *   some number of entries.
+    *
+    *   @param maxSize the most entries to keep
+    */
+    public MyCache(int maxSize){
+        this(Policy.LFU, maxSize, 0);
+    } // end constructor
+
+    /**
+    *   Builds a cache holding up to some number
+    *   of entries, each of which expires some number
+    *   of milliseconds after it's put in.
+    *
+    *   @param policy how to choose what to evict
+    *   @param maxSize the most entries to keep
+    *   @param timeToLive how long an entry lasts, in milliseconds,
+    *                     or 0 if entries never expire
+    */
+    public MyCache(Policy policy, int maxSize, long timeToLive){
+        this(policy, maxSize, Long.MAX_VALUE, value -> 1, timeToLive, System::currentTimeMillis);
+    } // end constructor
+
+    /**
+    *   @param policy how to choose what to evict
+    *   @param maxSize the most entries to keep
+    *   @param maxWeight the most total weight to keep
+    *   @param weigher gives the weight of a value
+    *   @param timeToLive how long an entry lasts, in the clock's
+    *                     units, or 0 if entries never expire
+    *   @param clock tells the current time
+    */
+    public MyCache(Policy policy, int maxSize, long maxWeight, ToLongFunction<? super V> weigher,
+                   long timeToLive, LongSupplier clock){
+        if (maxSize < 1)
+            throw new IllegalArgumentException("max size must be at least 1: " + maxSize);
+        if (maxWeight < 1)
+            throw new IllegalArgumentException("max weight must be at least 1: " + maxWeight);
+        if (policy == Policy.TTL && timeToLive <= 0)
+            throw new IllegalArgumentException("a TTL cache needs a time-to-live: " + timeToLive);
+
+        this.policy = policy;
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.entries = new HashMap<>();
+        this.evictionOrder = new MyIndexedMinHeap<>();
+        this.expiryOrder = (policy == Policy.LFU && timeToLive > 0) ? new MyIndexedMinHeap<>() : null;
+        this.weight = 0;
+        this.accesses = 0;
+    } // end constructor
+
+    public int size(){
+        return entries.size();
+    } // end method size
+
+    public long weight(){
+        return this.weight;
+    } // end method weight
+
+    public long hitCount(){
+        return this.hits;
+    } // end method hitCount
+
+    public long missCount(){
+        return this.misses;
+    } // end method missCount
+
+    public long evictionCount(){
+        return this.evictions;
+    } // end method evictionCount
+
+    /**
+    *   Tells which key would be evicted next, in
+    *   O(1) time, without evicting it. An expired
+    *   entry is always evicted before a live one.
+    *
+    *   @return the key of the next victim, or null if the cache is empty
+    */
+    public K peekVictim(){
+        if (evictionOrder.isEmpty())
+            return null;
+
+        if (expiryOrder != null && isExpired(expiryOrder.peek().entry, clock.getAsLong()))
+            return expiryOrder.peek().entry.key;
+
+        return evictionOrder.peek().key;
+    } // end method peekVictim
+
+    /**
+    *   Looks up the value cached for some key,
+    *   and counts it as a use of that entry.
+    *
+    *   @param key the key to be looked up
+    *   @return the value, or null if it's not cached (or has expired)
+    */
+    public V get(K key){
+        Entry entry = entries.get(key);
+
+        if (entry != null && isExpired(entry, clock.getAsLong())){
+            remove(entry);
+            entry = null;
+        }
+
+        if (entry == null){
+            this.misses++;
+            return null;
+        }
+
+        this.hits++;
+        touch(entry);
+        return entry.value;
+    } // end method get
+
+    /**
+    *   Caches a value for some key, replacing any
+    *   value already there. If the cache is full,
+    *   entries are evicted to make room first, so
+    *   the new entry is never the one evicted. A
+    *   value heavier than the cache's max weight
+    *   isn't cached at all.
+    *
+    *   @param key the key
+    *   @param value the value
+    */
+    public void put(K key, V value){
+        long now = clock.getAsLong();
+        long valueWeight = weigher.applyAsLong(value);
+        Entry entry = entries.get(key);
+
+        if (entry != null)
+            remove(entry);      // (taken out while making room, so it can't be the victim)
+
+        if (valueWeight > maxWeight)
+            return;
+
+        if (entry == null){
+            entry = new Entry(key, value, valueWeight, ++accesses, expiry(now));
+        } else {
+            entry.value = value;
+            entry.weight = valueWeight;
+            entry.expiresAt = expiry(now);
+            entry.frequency++;
+            entry.lastAccess = ++accesses;
+        }
+
+        makeRoom(now, valueWeight);
+
+        entries.put(key, entry);
+        evictionOrder.insert(entry);
+        if (expiryOrder != null)
+            expiryOrder.insert(entry.expiry);
+        this.weight += valueWeight;
+    } // end method put
+
+    /**
+    *   Removes the value cached for some key, if any.
+    *   @param key the key
+    */
+    public void invalidate(K key){
+        Entry entry = entries.get(key);
+
+        if (entry != null)
+            remove(entry);
+    } // end method invalidate
+
+    /**
+    *   Records a use of an entry, and moves it
+    *   to its new place in the eviction order.
+    */
+    private void touch(Entry entry){
+        entry.frequency++;
+        entry.lastAccess = ++accesses;
+        evictionOrder.update(entry);
+    } // end method touch
+
+    /**
+    *   Drops every expired entry, then evicts
+    *   entries until there's room for one more,
+    *   of some weight.
+    *
+    *   @param now the current time
+    *   @param incomingWeight the weight of the entry to be added
+    */
+    private void makeRoom(long now, long incomingWeight){
+        if (policy == Policy.TTL){          // In TTL mode, expired entries are all at the top;
+            while (!evictionOrder.isEmpty() && isExpired(evictionOrder.peek(), now))
+                remove(evictionOrder.peek());
+        } else if (expiryOrder != null){    // in LFU mode, they're at the top of the expiry heap.
+            while (!expiryOrder.isEmpty() && isExpired(expiryOrder.peek().entry, now))
+                remove(expiryOrder.peek().entry);
+        }
+
+        while (!evictionOrder.isEmpty()
+               && (entries.size() + 1 > maxSize || this.weight + incomingWeight > maxWeight)){
+            remove(evictionOrder.peek());
+            this.evictions++;
+        }
+    } // end method makeRoom
+
+    private void remove(Entry entry){
+        entries.remove(entry.key);
+        evictionOrder.remove(entry);
+        if (expiryOrder != null)
+            expiryOrder.remove(entry.expiry);
+        this.weight -= entry.weight;
+    } // end method remove
+
+    private long expiry(long now){
+        return (timeToLive > 0) ? now + timeToLive : Long.MAX_VALUE;
+    } // end method expiry
+
+    private boolean isExpired(Entry entry, long now){
+        return (now >= entry.expiresAt);
+    } // end method isExpired
+
+    /**
+    *   This inner class provides the cache's entries,
+    *   which double as the elements of its heap. Entries
+    *   use identity for equals and hashCode, so their
+    *   priority can change while they're in the heap.
+    */
+    private final class Entry implements Comparable<Entry>{
+        private final K key;
+        private V value;
+        private long weight;
+        private long frequency;
+        private long lastAccess;
+        private long expiresAt;
+        private final Expiry expiry;    // this entry's place in the expiry heap
+
+        private Entry(K key, V value, long weight, long lastAccess, long expiresAt){
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.frequency = 1;
+            this.lastAccess = lastAccess;
+            this.expiresAt = expiresAt;
+            this.expiry = new Expiry(this);
+        } // end constructor
+
+        @Override
+        public int compareTo(Entry other){
+            int comparison = (policy == Policy.LFU)
+                ? Long.compare(this.frequency, other.frequency)
+                : Long.compare(this.expiresAt, other.expiresAt);
+
+            return (comparison != 0) ? comparison : Long.compare(this.lastAccess, other.lastAccess);
+        } // end method compareTo
+    } // end inner class Entry
+
+    /**
+    *   This inner class stands in for an entry in the
+    *   expiry heap, ordered by when the entry expires.
+    *   Like entries, it uses identity for equals and
+    *   hashCode.
+    */
+    private final class Expiry implements Comparable<Expiry>{
+        private final Entry entry;
+
+        private Expiry(Entry entry){
+            this.entry = entry;
+        } // end constructor
+
+        @Override
+        public int compareTo(Expiry other){
+            return Long.compare(this.entry.expiresAt, other.entry.expiresAt);     // (fixed while it's in the heap)
+        } // end method compareTo
+    } // end inner class Expiry
+} // end class
@@ -0,0 +1,139 @@
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+*   This class implements a thread-safe,
+*   self-balancing binary search tree.
+*
+*   The tree is stored as a MyPersistentBST, whose
+*   versions are never modified once they're built.
+*   A write builds the next version (copying only
+*   O(log n) nodes) and publishes it through a
+*   volatile field. Writers take turns through a
+*   lock, so writes are linearizable.
+*
+*   Readers never lock and never wait: they read
+*   the current version once and then walk a tree
+*   that can't change underneath them. Iterators see
+*   the tree exactly as it was when they were created,
+*   and snapshot() hands out that version directly.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyConcurrentBST<T extends Comparable<T>> implements Iterable<T>{
+    private volatile MyPersistentBST<T> current;
+    private final ReentrantLock writeLock;
+
+    public MyConcurrentBST(){
+        this.current = MyPersistentBST.empty();
+        this.writeLock = new ReentrantLock();
+    } // end constructor
+
+    public int getSize(){
+        return this.current.getSize();
+    } // end method getSize
+
+    /**
+    *   Tests if this tree is empty.
+    *   @return 'true' if this tree is empty
+    */
+    public boolean isEmpty(){
+        return this.current.isEmpty();
+    } // end method isEmpty
+
+    /**
+    *   Tests if this tree contains some value.
+    *   Never blocks.
+    *
+    *   @param value the value to be searched for
+    *   @return 'true' if the value exists in this tree
+    */
+    public boolean contains(T value){
+        return this.current.contains(value);
+    } // end method contains
+
+    /**
+    *   Finds the lowest-ordered value
+    *   in this tree. Never blocks.
+    *   @return the lowest value, or null if this tree is empty
+    */
+    public T getMinimum(){
+        return this.current.getMinimum();
+    } // end method getMinimum
+
+    /**
+    *   Finds the highest-ordered value
+    *   in this tree. Never blocks.
+    *   @return the highest value, or null if this tree is empty
+    */
+    public T getMaximum(){
+        return this.current.getMaximum();
+    } // end method getMaximum
+
+    /**
+    *   Inserts new data in this tree,
+    *   unless it's already in there.
+    */
+    public void add(T data){
+        writeLock.lock();
+        try {
+            this.current = this.current.add(data);
+        } finally {
+            writeLock.unlock();
+        }
+    } // end method add
+
+    /**
+    *   Removes a value from this tree.
+    *   @param data the value to be removed
+    */
+    public void remove(T data){
+        writeLock.lock();
+        try {
+            this.current = this.current.remove(data);
+        } finally {
+            writeLock.unlock();
+        }
+    } // end method remove
+
+    /**
+    *   Takes a point-in-time snapshot of this tree,
+    *   in O(1) time. Later writes don't affect it.
+    *
+    *   @return the current version of this tree
+    */
+    public MyPersistentBST<T> snapshot(){
+        return this.current;
+    } // end method snapshot
+
+    /**
+    *   Returns an iterator over the values in this
+    *   tree, in order, as they were at the moment
+    *   this method was called. Never blocks, and
+    *   never throws ConcurrentModificationException.
+    */
+    @Override
+    public Iterator<T> iterator(){
+        return this.current.iterator();
+    } // end method iterator
+
+    @Override
+    public Spliterator<T> spliterator(){
+        return this.current.spliterator();
+    } // end method spliterator
+
+    /**
+    *   @return a sequential stream of the values
+    *           in this tree, in order
+    */
+    public Stream<T> stream(){
+        return this.current.stream();
+    } // end method stream
+} // end class
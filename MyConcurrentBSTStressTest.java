@@ -0,0 +1,225 @@
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+*   This class stress-tests MyConcurrentBST, and
+*   measures how its throughput scales from 1 thread
+*   to N, against the baseline it replaces: a MyBST
+*   behind one global lock.
+*
+*   Every thread runs the same mix for a fixed time:
+*   80% contains, 5% getMinimum/getMaximum, 5% reading
+*   the first few values in order, and 10% writes (half
+*   adds, half removes). Each thread only writes keys
+*   that are its own (key % threads == thread), and
+*   records what it wrote, so when the threads are done,
+*   the tree's contents can be checked exactly. Every
+*   in-order read is also checked to be strictly
+*   increasing while the writers are running.
+*
+*   Usage: java MyConcurrentBSTStressTest [max threads] [millis per run]
+*
+*   The max thread count defaults to twice the number
+*   of processors. Throughput can only scale up to the
+*   number of cores the machine really has.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyConcurrentBSTStressTest{
+    private static final int KEY_RANGE = 1 << 18;
+    private static final int PREFIX = 16;
+
+    public static void main(String[] args) throws InterruptedException{
+        int maxThreads = (args.length > 0) ? Integer.parseInt(args[0])
+                                           : 2 * Runtime.getRuntime().availableProcessors();
+        long millis = (args.length > 1) ? Long.parseLong(args[1]) : 1000;
+
+        System.out.println("processors: " + Runtime.getRuntime().availableProcessors()
+                           + ", keys: " + KEY_RANGE + ", " + millis + " ms per run");
+        run(new ConcurrentTree(), 1, millis, false);            // (warms up the JIT)
+        run(new LockedTree(), 1, millis, false);
+
+        double concurrentBase = 0;
+        double lockedBase = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double concurrent = run(new ConcurrentTree(), threads, millis, true);
+            double locked = run(new LockedTree(), threads, millis, true);
+            if (threads == 1) {
+                concurrentBase = concurrent;
+                lockedBase = locked;
+            }
+
+            System.out.printf("threads: %2d   MyConcurrentBST: %7.2f M ops/s (%5.2fx)"
+                              + "   locked MyBST: %7.2f M ops/s (%5.2fx)%n",
+                              threads, concurrent / 1e6, concurrent / concurrentBase,
+                              locked / 1e6, locked / lockedBase);
+        }
+        System.out.println("all checks passed");
+    }
+
+    /**
+        Runs the mix on some number of threads for a
+        while, then checks the tree's contents.
+        @return the throughput, in operations per second
+    */
+    private static double run(Tree tree, int threads, long millis, boolean check) throws InterruptedException{
+        boolean[] present = new boolean[KEY_RANGE];
+        Random random = new Random(7);
+        for (int i = 0; i < KEY_RANGE / 2; i++) {
+            int key = random.nextInt(KEY_RANGE);
+            tree.add(key);
+            present[key] = true;
+        }
+
+        LongAdder operations = new LongAdder();
+        Thread[] workers = new Thread[threads];
+        Throwable[] failure = new Throwable[1];
+        long deadline = System.nanoTime() + millis * 1_000_000;
+
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom r = ThreadLocalRandom.current();
+                long count = 0;
+
+                while ((count & 1023) != 0 || System.nanoTime() < deadline) {
+                    int roll = r.nextInt(100);
+                    int key = r.nextInt(KEY_RANGE);
+
+                    if (roll < 80) {
+                        tree.contains(key);
+                    } else if (roll < 85) {
+                        if (tree.minimum() > tree.maximum())
+                            throw new IllegalStateException("minimum is above maximum");
+                    } else if (roll < 90) {
+                        tree.checkPrefix();
+                    } else {
+                        int own = key - Math.floorMod(key, threads) + id;   // (the nearest key of this thread's)
+                        if (own >= KEY_RANGE) own -= threads;
+                        if (roll < 95) {
+                            tree.add(own);
+                            present[own] = true;
+                        } else {
+                            tree.remove(own);
+                            present[own] = false;
+                        }
+                    }
+                    count++;
+                }
+                operations.add(count);
+            });
+            workers[t].setUncaughtExceptionHandler((thread, e) -> failure[0] = e);
+        }
+
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (failure[0] != null)
+            throw new IllegalStateException("a worker failed", failure[0]);
+        if (check)
+            checkContents(tree, present);
+
+        return operations.sum() * 1e9 / elapsed;
+    }
+
+    /**
+        Checks that the tree holds exactly the keys the
+        threads say they left in it, in order.
+    */
+    private static void checkContents(Tree tree, boolean[] present){
+        int expectedSize = 0;
+        for (int key = 0; key < KEY_RANGE; key++) {
+            if (tree.contains(key) != present[key])
+                throw new IllegalStateException("key " + key + " should " + (present[key] ? "" : "not ") + "be in");
+            if (present[key]) expectedSize++;
+        }
+
+        if (tree.size() != expectedSize)
+            throw new IllegalStateException("size is " + tree.size() + ", not " + expectedSize);
+
+        int previous = -1;
+        int count = 0;
+        for (Iterator<Integer> values = tree.iterator(); values.hasNext(); count++) {
+            int value = values.next();
+            if (value <= previous)
+                throw new IllegalStateException("out of order: " + value + " after " + previous);
+            previous = value;
+        }
+        if (count != expectedSize)
+            throw new IllegalStateException("iterated over " + count + " values, not " + expectedSize);
+    }
+
+    /**
+        The operations the test is run on.
+    */
+    private interface Tree{
+        void add(int key);
+        void remove(int key);
+        boolean contains(int key);
+        int minimum();
+        int maximum();
+        int size();
+        Iterator<Integer> iterator();
+
+        /**
+            Reads the first few values in order, and
+            checks that they're strictly increasing.
+        */
+        default void checkPrefix(){
+            Iterator<Integer> values = iterator();
+            int previous = -1;
+            for (int i = 0; i < PREFIX && values.hasNext(); i++) {
+                int value = values.next();
+                if (value <= previous)
+                    throw new IllegalStateException("out of order: " + value + " after " + previous);
+                previous = value;
+            }
+        }
+    }
+
+    private static final class ConcurrentTree implements Tree{
+        private final MyConcurrentBST<Integer> tree = new MyConcurrentBST<Integer>();
+
+        public void add(int key)             {tree.add(key);              }
+        public void remove(int key)          {tree.remove(key);           }
+        public boolean contains(int key)     {return tree.contains(key);  }
+        public int minimum()                 {return tree.getMinimum();   }
+        public int maximum()                 {return tree.getMaximum();   }
+        public int size()                    {return tree.getSize();      }
+        public Iterator<Integer> iterator()  {return tree.iterator();     }
+    }
+
+    /**
+        The baseline: every operation, including
+        a whole in-order read, under one lock.
+    */
+    private static final class LockedTree implements Tree{
+        private final MyBST<Integer> tree = new MyBST<Integer>(true);
+
+        public synchronized void add(int key)            {tree.add(key);                       }
+        public synchronized void remove(int key)         {tree.remove(key);                    }
+        public synchronized boolean contains(int key)    {return tree.contains(key);           }
+        public synchronized int minimum()                {return tree.getMinimum().getData();  }
+        public synchronized int maximum()                {return tree.getMaximum().getData();  }
+        public synchronized int size()                   {return tree.getSize();               }
+        public Iterator<Integer> iterator()              {return tree.iterator();              }
+
+        @Override
+        public synchronized void checkPrefix(){
+            Tree.super.checkPrefix();
+        }
+    }
+} // end class
@@ -0,0 +1,225 @@
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+*   This class implements a thread-safe priority
+*   queue that scales across cores, built out of
+*   several MyMinHeap "shards", each with its own lock
+*   (a MultiQueue).
+*
+*   An insertion picks a random shard and only locks
+*   that one, trying another shard instead of waiting
+*   if the lock is taken. So producers rarely collide.
+*
+*   Removal comes in two modes:
+*
+*   - Relaxed (the default): sample two random shards,
+*     and take from whichever one has the smaller
+*     minimum. This only locks one shard, but it doesn't
+*     always return the true minimum. With c shards, the
+*     element removed is, on average, among the O(c)
+*     smallest in the queue, and the rank error is
+*     O(c log c) with high probability. The more shards,
+*     the better it scales, and the looser the order.
+*
+*   - Strict: lock every shard and take the smallest
+*     minimum among them. This always returns the true
+*     minimum, but removals run one at a time.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyConcurrentPriorityQueue<T extends Comparable<T>>{
+    private static final int INSERT_ATTEMPTS = 4;   // how many shards to try before waiting for a lock
+    private static final int REMOVE_ATTEMPTS = 8;   // how many samples to try before scanning every shard
+
+    private final Shard<T>[] shards;
+    private final boolean strict;
+    private final AtomicInteger size;
+
+    /**
+        Builds an empty relaxed queue with two
+        shards per available processor.
+    */
+    public MyConcurrentPriorityQueue(){
+        this(2 * Runtime.getRuntime().availableProcessors(), false);
+    }
+
+    /**
+        @param shardCount the number of heaps the elements are spread across
+        @param strict 'true' if removals must always return the true minimum
+    */
+    @SuppressWarnings("unchecked")
+    public MyConcurrentPriorityQueue(int shardCount, boolean strict){
+        if (shardCount < 1) throw new IllegalArgumentException("need at least one shard: " + shardCount);
+
+        this.shards = (Shard<T>[]) new Shard<?>[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard<T>();
+        }
+        this.strict = strict;
+        this.size = new AtomicInteger();
+    }
+
+    public boolean isStrict(){return strict;                }
+    public boolean isEmpty() {return size.get() == 0;       }
+    public int size()        {return size.get();            }
+
+    /**
+        Inserts an element into this queue.
+        @param data the object to be inserted
+    */
+    public void insert(T data){
+        if (data == null) return;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Shard<T> shard = null;
+
+        for (int attempt = 0; attempt < INSERT_ATTEMPTS; attempt++) {   // Try a few shards,
+            Shard<T> candidate = shards[random.nextInt(shards.length)];
+            if (candidate.lock.tryLock()) {
+                shard = candidate;
+                break;
+            }
+        }
+        if (shard == null) {                                            // and if they're all busy,
+            shard = shards[random.nextInt(shards.length)];              // wait for one.
+            shard.lock.lock();
+        }
+
+        try {
+            shard.heap.insert(data);
+            shard.top = shard.heap.peek();
+            size.incrementAndGet();
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+        Removes the minimum value of this queue
+        (or, in relaxed mode, a value close to it).
+        @throws IllegalStateException if this queue is empty
+    */
+    public T remove(){
+        T element = poll();
+        if (element == null) throw new IllegalStateException();
+
+        return element;
+    }
+
+    /**
+        Removes the minimum value of this queue
+        (or, in relaxed mode, a value close to it).
+        @return the value removed, or null if this queue is empty
+    */
+    public T poll(){
+        return strict ? pollStrict() : pollRelaxed();
+    }
+
+    /**
+        Samples two shards, and takes from whichever
+        has the smaller minimum.
+    */
+    private T pollRelaxed(){
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int attempt = 0; attempt < REMOVE_ATTEMPTS; attempt++) {
+            Shard<T> a = shards[random.nextInt(shards.length)];
+            Shard<T> b = shards[random.nextInt(shards.length)];
+            T topA = a.top;     // (a shard's top is read without its lock,
+            T topB = b.top;     // so it may be slightly out of date.)
+
+            Shard<T> chosen;
+            if (topA == null && topB == null) continue;
+            else if (topA == null)            chosen = b;
+            else if (topB == null)            chosen = a;
+            else                              chosen = (topA.compareTo(topB) <= 0) ? a : b;
+
+            if (!chosen.lock.tryLock()) continue;   // if someone else is using it, sample again.
+            try {
+                if (!chosen.heap.isEmpty()) return removeFrom(chosen);
+            } finally {
+                chosen.lock.unlock();
+            }
+        }
+
+        return pollAny();
+    }
+
+    /**
+        Takes the minimum of any non-empty shard,
+        checking each one in turn. Used when sampling
+        keeps turning up empty shards.
+        @return the value removed, or null if every shard was empty
+    */
+    private T pollAny(){
+        int start = ThreadLocalRandom.current().nextInt(shards.length);
+
+        for (int i = 0; i < shards.length; i++) {
+            Shard<T> shard = shards[(start + i) % shards.length];
+            if (shard.top == null) continue;
+
+            shard.lock.lock();
+            try {
+                if (!shard.heap.isEmpty()) return removeFrom(shard);
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+        Locks every shard, in order, and takes
+        the smallest of their minimums.
+    */
+    private T pollStrict(){
+        for (Shard<T> shard : shards) {
+            shard.lock.lock();
+        }
+
+        try {
+            Shard<T> smallest = null;
+            for (Shard<T> shard : shards) {
+                if (shard.heap.isEmpty()) continue;
+                if (smallest == null || shard.heap.peek().compareTo(smallest.heap.peek()) < 0)
+                    smallest = shard;
+            }
+
+            return (smallest == null) ? null : removeFrom(smallest);
+        } finally {
+            for (Shard<T> shard : shards) {
+                shard.lock.unlock();
+            }
+        }
+    }
+
+    /**
+        Removes a shard's minimum.
+        Assumes the caller holds its lock,
+        and that it isn't empty.
+    */
+    private T removeFrom(Shard<T> shard){
+        T element = shard.heap.remove();
+        shard.top = shard.heap.isEmpty() ? null : shard.heap.peek();
+        size.decrementAndGet();
+        return element;
+    }
+
+    /**
+        One heap, its lock, and a copy of its
+        minimum that can be read without the lock.
+    */
+    private static final class Shard<T extends Comparable<T>>{
+        private final MyMinHeap<T> heap = new MyMinHeap<T>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile T top;
+    }
+} // end class
@@ -0,0 +1,148 @@
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+*   This class measures the throughput of
+*   MyConcurrentPriorityQueue, in relaxed and strict
+*   mode, from 1 to 32 threads, against the baseline
+*   it replaces: a MyMinHeap behind one lock.
+*
+*   Every thread runs the same mix for a fixed time,
+*   on a queue that starts with 100,000 elements:
+*   half insertions of random values, half removals.
+*   After each run, the queue is drained, and the
+*   number of elements left is checked against the
+*   number of insertions and removals.
+*
+*   Usage: java MyConcurrentPriorityQueueBenchmark [max threads] [millis per run]
+*
+*   Throughput can only scale up to the number of
+*   cores the machine really has.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyConcurrentPriorityQueueBenchmark{
+    private static final int PREFILL = 100_000;
+
+    public static void main(String[] args) throws InterruptedException{
+        int maxThreads = (args.length > 0) ? Integer.parseInt(args[0]) : 32;
+        long millis = (args.length > 1) ? Long.parseLong(args[1]) : 1000;
+
+        System.out.println("processors: " + Runtime.getRuntime().availableProcessors()
+                           + ", " + millis + " ms per run");
+        run(relaxed(), 1, millis);                              // (warms up the JIT)
+        run(strict(), 1, millis);
+        run(new LockedHeap(), 1, millis);
+
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            System.out.printf("threads: %2d   relaxed: %7.2f M ops/s   strict: %7.2f M ops/s"
+                              + "   locked MyMinHeap: %7.2f M ops/s%n",
+                              threads, run(relaxed(), threads, millis) / 1e6,
+                              run(strict(), threads, millis) / 1e6,
+                              run(new LockedHeap(), threads, millis) / 1e6);
+        }
+    }
+
+    private static Queue relaxed(){
+        MyConcurrentPriorityQueue<Integer> queue = new MyConcurrentPriorityQueue<Integer>();
+        return adapt(queue);
+    }
+
+    private static Queue strict(){
+        MyConcurrentPriorityQueue<Integer> queue = new MyConcurrentPriorityQueue<Integer>(
+            2 * Runtime.getRuntime().availableProcessors(), true);
+        return adapt(queue);
+    }
+
+    private static Queue adapt(MyConcurrentPriorityQueue<Integer> queue){
+        return new Queue(){
+            public void insert(int value){queue.insert(value);}
+            public Integer poll()        {return queue.poll();}
+        };
+    }
+
+    /**
+        Runs the mix on some number of threads for a
+        while, then drains the queue and checks the count.
+        @return the throughput, in operations per second
+    */
+    private static double run(Queue queue, int threads, long millis) throws InterruptedException{
+        for (int i = 0; i < PREFILL; i++) {
+            queue.insert(ThreadLocalRandom.current().nextInt());
+        }
+
+        LongAdder operations = new LongAdder();
+        LongAdder inserted = new LongAdder();
+        LongAdder removed = new LongAdder();
+        Thread[] workers = new Thread[threads];
+        long deadline = System.nanoTime() + millis * 1_000_000;
+
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long count = 0;
+                long ins = 0;
+                long rem = 0;
+
+                while ((count & 1023) != 0 || System.nanoTime() < deadline) {
+                    if (random.nextBoolean()) {
+                        queue.insert(random.nextInt());
+                        ins++;
+                    } else if (queue.poll() != null) {
+                        rem++;
+                    }
+                    count++;
+                }
+                operations.add(count);
+                inserted.add(ins);
+                removed.add(rem);
+            });
+        }
+
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long left = 0;
+        while (queue.poll() != null) {
+            left++;
+        }
+        long expected = PREFILL + inserted.sum() - removed.sum();
+        if (left != expected)
+            throw new IllegalStateException(left + " elements were left, not " + expected);
+
+        return operations.sum() * 1e9 / elapsed;
+    }
+
+    /**
+        The operations the benchmark is run on.
+    */
+    private interface Queue{
+        void insert(int value);
+        Integer poll();
+    }
+
+    /**
+        The baseline: a MyMinHeap, with every
+        operation under the heap's lock.
+    */
+    private static final class LockedHeap implements Queue{
+        private final MyMinHeap<Integer> heap = new MyMinHeap<Integer>();
+
+        public synchronized void insert(int value){heap.insert(value);}
+
+        public synchronized Integer poll(){
+            return heap.isEmpty() ? null : heap.remove();
+        }
+    }
+} // end class
@@ -0,0 +1,461 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+
+/**
+*   This class implements a FIFO queue that keeps its
+*   elements on disk, so they survive the process
+*   stopping or crashing.
+*
+*   Elements are appended as records to a series of
+*   fixed-size segment files, each memory-mapped, so an
+*   enqueue is just a copy into memory that the OS writes
+*   back. Each record is laid out as
+*
+*       [length][CRC-32 of payload][payload]
+*
+*   and a length of -1 means the rest of the segment is
+*   unused, and the next record is at the start of the
+*   next segment. A segment file is deleted once every
+*   record in it has been dequeued.
+*
+*   A small header file holds the read position and the
+*   write position, each packed into one long (segment
+*   number in the high half, offset in the low half), so
+*   each is updated by a single write.
+*
+*   How often the data is forced to disk is up to the
+*   caller: after every write (slow, but nothing is ever
+*   lost), or once every so many writes ("group commit"),
+*   and whenever sync or close is called. After a crash,
+*   the queue picks up from the header's read position and
+*   scans forward, keeping records for as long as their
+*   checksums match, so it doesn't matter whether the
+*   header or the records reached the disk first. Records
+*   dequeued since the last sync may come back, and a
+*   segment isn't deleted until the read position past it
+*   is on disk.
+*
+*   Elements are written and read with a MySerializer,
+*   and each must take at least one byte. This class
+*   isn't thread-safe, and only one queue at a time may
+*   use a directory.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyDurableQueue<T> implements Closeable{
+    /**
+        When the queue forces its data to disk.
+    */
+    public enum SyncMode{
+        EVERY_WRITE,        // after every enqueue and dequeue
+        GROUP_COMMIT        // after every so many, and on sync or close
+    }
+
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final int DEFAULT_GROUP_SIZE = 256;
+
+    private static final String HEADER_FILE = "queue.header";
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC = 0x4D594451;        // "MYDQ"
+    private static final int MAGIC_AT = 0;
+    private static final int SEGMENT_SIZE_AT = 4;
+    private static final int READ_POSITION_AT = 8;
+    private static final int WRITE_POSITION_AT = 16;
+
+    private static final int RECORD_HEADER = 8;         // the length and the checksum
+    private static final int ROLL = -1;
+
+    private final Path directory;
+    private final MySerializer<T> serializer;
+    private final int segmentSize;
+    private final SyncMode syncMode;
+    private final int groupSize;
+
+    private final MappedByteBuffer header;
+    private int readSegment;
+    private int readOffset;
+    private MappedByteBuffer readBuffer;
+    private int writeSegment;
+    private int writeOffset;
+    private MappedByteBuffer writeBuffer;
+    private long size;
+    private int unsynced;                               // operations since the last sync
+    private int oldestSegment;                          // the lowest segment whose file may still exist
+
+    private final RecordBuffer record;
+    private final DataOutputStream recordOut;
+    private final CRC32 crc;
+
+    /**
+        Opens the queue in a directory, or starts a new
+        one there, with 64 MB segments and group commit
+        every 256 operations.
+
+        @param directory where the queue's files are
+        @param serializer how to write elements to disk and read them back
+    */
+    public MyDurableQueue(Path directory, MySerializer<T> serializer){
+        this(directory, serializer, DEFAULT_SEGMENT_SIZE, SyncMode.GROUP_COMMIT, DEFAULT_GROUP_SIZE);
+    }
+
+    /**
+        @param directory where the queue's files are
+        @param serializer how to write elements to disk and read them back
+        @param segmentSize the size of each segment file, in bytes;
+                           must match the size the queue was created with
+        @param syncMode when to force data to disk
+        @param groupSize how many operations to allow between syncs,
+                         in GROUP_COMMIT mode
+    */
+    public MyDurableQueue(Path directory, MySerializer<T> serializer, int segmentSize,
+                          SyncMode syncMode, int groupSize){
+        if (segmentSize < 64) throw new IllegalArgumentException("segment size must be at least 64: " + segmentSize);
+        if (groupSize < 1)    throw new IllegalArgumentException("group size must be at least 1: " + groupSize);
+
+        this.directory = directory;
+        this.serializer = serializer;
+        this.segmentSize = segmentSize;
+        this.syncMode = syncMode;
+        this.groupSize = groupSize;
+        this.record = new RecordBuffer();
+        this.recordOut = new DataOutputStream(record);
+        this.crc = new CRC32();
+
+        try {
+            Files.createDirectories(directory);
+            Path headerFile = directory.resolve(HEADER_FILE);
+            boolean isNew = !Files.exists(headerFile) || Files.size(headerFile) == 0;
+            this.header = map(headerFile, HEADER_SIZE);
+
+            if (isNew) {
+                header.putInt(MAGIC_AT, MAGIC);
+                header.putInt(SEGMENT_SIZE_AT, segmentSize);
+                header.putLong(READ_POSITION_AT, 0);
+                header.putLong(WRITE_POSITION_AT, 0);
+            } else if (header.getInt(MAGIC_AT) != MAGIC) {
+                throw new IOException("not a queue header: " + headerFile);
+            } else if (header.getInt(SEGMENT_SIZE_AT) != segmentSize) {
+                throw new IOException("queue was created with segments of " + header.getInt(SEGMENT_SIZE_AT)
+                                      + " bytes, not " + segmentSize);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        recover();
+    }
+
+    public boolean isEmpty(){return size == 0;}
+
+    /**
+        @return the number of elements in this queue
+    */
+    public long size()      {return size;     }
+
+    /**
+        Adds a new element to the end of the queue.
+        @param element the element to be added
+        @throws IllegalArgumentException if the element doesn't
+                                         fit in one segment
+    */
+    public void enqueue(T element){
+        if (element == null) throw new IllegalArgumentException("null element");
+
+        record.reset();
+        try {
+            serializer.write(element, recordOut);
+            recordOut.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int length = record.size();
+        if (length == 0)
+            throw new IllegalArgumentException("element was written as zero bytes");
+        if (RECORD_HEADER + length + 4 > segmentSize)
+            throw new IllegalArgumentException("element takes " + length + " bytes, too many for one segment");
+
+        if (writeOffset + RECORD_HEADER + length + 4 > segmentSize)     // (leaving room for a roll marker after it)
+            roll();
+
+        crc.reset();
+        crc.update(record.array(), 0, length);
+
+        writeBuffer.put(writeOffset + RECORD_HEADER, record.array(), 0, length);   // Write the payload and checksum,
+        writeBuffer.putInt(writeOffset + 4, (int) crc.getValue());
+        writeBuffer.putInt(writeOffset, length);                                    // then the length,
+        int start = writeOffset;
+        writeOffset += RECORD_HEADER + length;
+        header.putLong(WRITE_POSITION_AT, position(writeSegment, writeOffset));    // then move the write position.
+        size++;
+
+        if (syncMode == SyncMode.EVERY_WRITE) {
+            writeBuffer.force(start, RECORD_HEADER + length);
+            forceHeader();
+        } else if (++unsynced >= groupSize) {
+            sync();
+        }
+    }
+
+    /**
+        Removes the element at the front of the queue.
+        @return the first in line
+        @throws NoSuchElementException if this queue is empty
+    */
+    public T dequeue(){
+        if (this.isEmpty()) throw new NoSuchElementException();
+
+        int length = nextRecord();
+        T element = readRecord(length);
+        readOffset += RECORD_HEADER + length;
+        header.putLong(READ_POSITION_AT, position(readSegment, readOffset));
+        size--;
+
+        if (syncMode == SyncMode.EVERY_WRITE)
+            forceHeader();
+        else if (++unsynced >= groupSize)
+            sync();
+
+        return element;
+    }
+
+    /**
+        Retrieves, but does not remove, the
+        element at the front of the queue.
+        @return the first in line, or null if this queue is empty
+    */
+    public T peek(){
+        if (this.isEmpty()) return null;
+
+        return readRecord(nextRecord());
+    }
+
+    /**
+        Forces every write so far to disk.
+    */
+    public void sync(){
+        writeBuffer.force();
+        forceHeader();
+        unsynced = 0;
+    }
+
+    /**
+        Forces every write so far to disk. The queue
+        can be opened again later from its directory.
+    */
+    @Override
+    public void close(){
+        sync();
+    }
+
+    /**
+        Forces the header to disk, then deletes every
+        segment that's been read to the end. Until the
+        header's read position is on disk, a crash would
+        send the queue back to those segments, so they
+        can't be deleted any sooner.
+    */
+    private void forceHeader(){
+        header.force();
+        while (oldestSegment < readSegment) {
+            deleteSegment(oldestSegment++);
+        }
+    }
+
+    /**
+        Gets the length of the record at the read
+        position, first moving past a roll marker if
+        there is one. (The segment it ends is deleted
+        at the next forceHeader.) Assumes the queue
+        isn't empty.
+    */
+    private int nextRecord(){
+        int length = readBuffer.getInt(readOffset);
+        if (length != ROLL) return length;
+
+        readSegment++;
+        readOffset = 0;
+        readBuffer = (readSegment == writeSegment) ? writeBuffer : map(segmentFile(readSegment), segmentSize);
+        header.putLong(READ_POSITION_AT, position(readSegment, readOffset));
+
+        return readBuffer.getInt(readOffset);
+    }
+
+    /**
+        Checks and reads the record at the read position.
+    */
+    private T readRecord(int length){
+        byte[] payload = new byte[length];
+        readBuffer.get(readOffset + RECORD_HEADER, payload);
+
+        crc.reset();
+        crc.update(payload);
+        if ((int) crc.getValue() != readBuffer.getInt(readOffset + 4))
+            throw new UncheckedIOException(new IOException(
+                "corrupt record in segment " + readSegment + " at offset " + readOffset));
+
+        try {
+            return serializer.read(new DataInputStream(new ByteArrayInputStream(payload)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+        Ends the current segment with a roll marker,
+        and starts writing to a new one.
+    */
+    private void roll(){
+        writeBuffer.putInt(writeOffset, ROLL);
+        writeBuffer.force();
+
+        writeSegment++;
+        writeOffset = 0;
+        writeBuffer = map(segmentFile(writeSegment), segmentSize);
+        header.putLong(WRITE_POSITION_AT, position(writeSegment, writeOffset));
+    }
+
+    /**
+        Picks up where the queue left off.
+
+        Scans forward from the header's read position for
+        as long as it finds records with good checksums, and
+        takes the end of the last one as the write position,
+        whatever the header says. The header's write position
+        can't be trusted either way: with group commit, the
+        OS may write the header back to disk before or after
+        the records it describes. Whatever's left after the
+        last good record is zeroed (only where it isn't
+        already, so the file stays sparse), and segments that
+        are already used up, or were started after it, are
+        deleted.
+    */
+    private void recover(){
+        long readPosition = header.getLong(READ_POSITION_AT);
+
+        readSegment = segmentOf(readPosition);
+        readOffset = offsetOf(readPosition);
+        readBuffer = map(segmentFile(readSegment), segmentSize);
+
+        int segment = readSegment;
+        int offset = readOffset;
+        MappedByteBuffer buffer = readBuffer;
+        long count = 0;
+
+        while (true) {
+            int length = buffer.getInt(offset);
+            if (length == ROLL) {
+                segment++;
+                offset = 0;
+                buffer = map(segmentFile(segment), segmentSize);
+            } else if (isGoodRecord(buffer, offset, length)) {
+                offset += RECORD_HEADER + length;
+                count++;
+            } else {
+                break;
+            }
+        }
+
+        for (int i = offset; i < segmentSize; i++) {                    // Clear out any half-written record.
+            if (buffer.get(i) != 0)
+                buffer.put(i, (byte) 0);
+        }
+
+        writeSegment = segment;
+        writeOffset = offset;
+        writeBuffer = buffer;
+        if (readSegment == writeSegment)
+            readBuffer = writeBuffer;
+        size = count;
+
+        header.putLong(WRITE_POSITION_AT, position(writeSegment, writeOffset));
+        deleteStaleSegments();
+        oldestSegment = readSegment;
+        sync();
+    }
+
+    private boolean isGoodRecord(MappedByteBuffer buffer, int offset, int length){
+        if (length <= 0 || offset + RECORD_HEADER + length + 4 > segmentSize)
+            return false;
+
+        crc.reset();
+        crc.update(buffer.slice(offset + RECORD_HEADER, length));
+        return (int) crc.getValue() == buffer.getInt(offset + 4);
+    }
+
+    /**
+        Deletes every segment before the read
+        segment or after the write segment.
+    */
+    private void deleteStaleSegments(){
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "segment-*.dat")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                int segment = Integer.parseInt(name.substring(8, name.length() - 4));
+
+                if (segment < readSegment || segment > writeSegment)
+                    Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteSegment(int segment){
+        try {
+            Files.deleteIfExists(segmentFile(segment));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path segmentFile(int segment){
+        return directory.resolve(String.format("segment-%010d.dat", segment));
+    }
+
+    /**
+        Maps a file into memory, creating
+        it (full of zeros) if need be.
+    */
+    private static MappedByteBuffer map(Path file, int size){
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                                                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long position(int segment, int offset){
+        return ((long) segment << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int segmentOf(long position){return (int) (position >>> 32);}
+    private static int offsetOf(long position) {return (int) position;         }
+
+    /**
+        A ByteArrayOutputStream that lets its
+        array be read without copying it.
+    */
+    private static final class RecordBuffer extends ByteArrayOutputStream{
+        private byte[] array(){return buf;}
+    }
+} // end class
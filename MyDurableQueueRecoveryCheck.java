@@ -0,0 +1,262 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+*   This class checks that MyDurableQueue recovers from
+*   crashes. Run it with no arguments; it prints each
+*   case as it passes, and throws at the first failure.
+*
+*   A power loss is simulated by copying the queue's
+*   directory while the queue is still open (the copy
+*   sees whatever the OS has of the mapped files), then
+*   changing the copy the way a crash could have left
+*   it, and opening the copy:
+*
+*   - killed writer:  a separate JVM enqueues and halts
+*                     without closing the queue.
+*   - torn tail:      a half-written record follows the
+*                     last good one.
+*   - header behind:  the header is from the last sync,
+*                     but records written since then
+*                     reached the disk.
+*   - header ahead:   the header reached the disk, but
+*                     the last records it covers didn't.
+*   - stale read:     the header is from before a dequeue
+*                     that moved on to the next segment.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyDurableQueueRecoveryCheck{
+    private static final int SEGMENT_SIZE = 4096;
+    private static final int WRITER_COUNT = 5000;
+
+    private static final MySerializer<String> STRINGS = new MySerializer<String>(){
+        public void write(String element, DataOutput out) throws IOException{out.writeUTF(element);}
+        public String read(DataInput in) throws IOException                 {return in.readUTF();  }
+    };
+
+    public static void main(String[] args) throws Exception{
+        if (args.length == 2 && args[0].equals("writer")) {
+            runWriter(Paths.get(args[1]));
+            return;
+        }
+
+        killedWriter();
+        tornTail();
+        headerBehind();
+        headerAhead();
+        staleRead();
+        System.out.println("all recovery checks passed");
+    }
+
+    /**
+        Enqueues "x0" to "x4999", dequeuing every
+        seventh, then halts without closing the queue.
+    */
+    private static void runWriter(Path directory){
+        MyDurableQueue<String> queue = open(directory, MyDurableQueue.SyncMode.GROUP_COMMIT);
+        for (int i = 0; i < WRITER_COUNT; i++) {
+            queue.enqueue("x" + i);
+            if (i % 7 == 0) queue.dequeue();
+        }
+        Runtime.getRuntime().halt(0);
+    }
+
+    private static void killedWriter() throws Exception{
+        Path directory = Files.createTempDirectory("durable-queue");
+        Process writer = new ProcessBuilder("java", "-cp", System.getProperty("java.class.path"),
+                                            "MyDurableQueueRecoveryCheck", "writer", directory.toString())
+            .inheritIO().start();
+        check(writer.waitFor() == 0, "writer failed");
+
+        int dequeued = (WRITER_COUNT + 6) / 7;
+        MyDurableQueue<String> queue = open(directory, MyDurableQueue.SyncMode.GROUP_COMMIT);
+        check(queue.size() == WRITER_COUNT - dequeued, "killed writer: size " + queue.size());
+        expectRun(queue, dequeued, WRITER_COUNT);
+        queue.close();
+
+        delete(directory);
+        System.out.println("passed: killed writer");
+    }
+
+    private static void tornTail() throws Exception{
+        Path directory = Files.createTempDirectory("durable-queue");
+        MyDurableQueue<String> queue = open(directory, MyDurableQueue.SyncMode.EVERY_WRITE);
+        enqueueRun(queue, 0, 100);
+
+        Path image = crashImage(directory);
+        long writePosition = headerLong(image, 16);
+        Path segment = segmentFile(image, (int) (writePosition >>> 32));
+        byte[] bytes = Files.readAllBytes(segment);
+        ByteBuffer torn = ByteBuffer.wrap(bytes);
+        torn.putInt((int) writePosition, 50);                   // a length and a checksum,
+        torn.putInt((int) writePosition + 4, 0x12345678);
+        torn.put((int) writePosition + 8, (byte) 'x');          // but only a byte of the payload
+        Files.write(segment, bytes);
+
+        MyDurableQueue<String> recovered = open(image, MyDurableQueue.SyncMode.EVERY_WRITE);
+        check(recovered.size() == 100, "torn tail: size " + recovered.size());
+        recovered.enqueue("x100");
+        recovered.close();
+
+        recovered = open(image, MyDurableQueue.SyncMode.EVERY_WRITE);
+        check(recovered.size() == 101, "torn tail: size after reopening " + recovered.size());
+        expectRun(recovered, 0, 101);
+        recovered.close();
+
+        queue.close();
+        delete(directory);
+        delete(image);
+        System.out.println("passed: torn tail");
+    }
+
+    private static void headerBehind() throws Exception{
+        Path directory = Files.createTempDirectory("durable-queue");
+        MyDurableQueue<String> queue = open(directory, MyDurableQueue.SyncMode.GROUP_COMMIT);
+        enqueueRun(queue, 0, 50);
+        queue.sync();
+        byte[] syncedHeader = Files.readAllBytes(directory.resolve("queue.header"));
+        enqueueRun(queue, 50, 1000);                            // (several segments' worth)
+
+        Path image = crashImage(directory);
+        Files.write(image.resolve("queue.header"), syncedHeader);
+
+        MyDurableQueue<String> recovered = open(image, MyDurableQueue.SyncMode.GROUP_COMMIT);
+        check(recovered.size() == 1000, "header behind: size " + recovered.size());
+        expectRun(recovered, 0, 1000);
+        recovered.close();
+
+        queue.close();
+        delete(directory);
+        delete(image);
+        System.out.println("passed: header behind");
+    }
+
+    private static void headerAhead() throws Exception{
+        Path directory = Files.createTempDirectory("durable-queue");
+        MyDurableQueue<String> queue = open(directory, MyDurableQueue.SyncMode.GROUP_COMMIT);
+        enqueueRun(queue, 0, 1000);
+        queue.sync();
+
+        Path image = crashImage(directory);
+        long writePosition = headerLong(image, 16);
+        Path segment = segmentFile(image, (int) (writePosition >>> 32));
+        byte[] bytes = Files.readAllBytes(segment);
+        int lost = (int) writePosition / 2;                     // The second half of the last
+        for (int i = lost; i < (int) writePosition; i++) {      // segment's records never made it.
+            bytes[i] = 0;
+        }
+        Files.write(segment, bytes);
+
+        MyDurableQueue<String> recovered = open(image, MyDurableQueue.SyncMode.GROUP_COMMIT);
+        long size = recovered.size();
+        check(size > 0 && size < 1000, "header ahead: size " + size);
+        expectRun(recovered, 0, (int) size);
+        recovered.enqueue("after");
+        recovered.close();
+
+        recovered = open(image, MyDurableQueue.SyncMode.GROUP_COMMIT);
+        check(recovered.size() == 1, "header ahead: size after reopening " + recovered.size());
+        check(recovered.dequeue().equals("after"), "header ahead: wrong element after reopening");
+        recovered.close();
+
+        queue.close();
+        delete(directory);
+        delete(image);
+        System.out.println("passed: header ahead");
+    }
+
+    private static void staleRead() throws Exception{
+        Path directory = Files.createTempDirectory("durable-queue");
+        MyDurableQueue<String> queue = open(directory, MyDurableQueue.SyncMode.GROUP_COMMIT);
+        enqueueRun(queue, 0, 1000);
+        queue.sync();
+        byte[] syncedHeader = Files.readAllBytes(directory.resolve("queue.header"));
+        for (int i = 0; i < 600; i++) {                         // (past the end of the first segment)
+            queue.dequeue();
+        }
+        queue.peek();
+
+        Path image = crashImage(directory);
+        Files.write(image.resolve("queue.header"), syncedHeader);
+
+        MyDurableQueue<String> recovered = open(image, MyDurableQueue.SyncMode.GROUP_COMMIT);
+        check(recovered.size() == 1000, "stale read: size " + recovered.size());
+        expectRun(recovered, 0, 1000);
+        recovered.close();
+
+        queue.close();
+        delete(directory);
+        delete(image);
+        System.out.println("passed: stale read");
+    }
+
+    private static MyDurableQueue<String> open(Path directory, MyDurableQueue.SyncMode syncMode){
+        return new MyDurableQueue<String>(directory, STRINGS, SEGMENT_SIZE, syncMode, 1_000_000);
+    }
+
+    private static void enqueueRun(MyDurableQueue<String> queue, int from, int to){
+        for (int i = from; i < to; i++) {
+            queue.enqueue("x" + i);
+        }
+    }
+
+    /**
+        Dequeues everything, checking that it's
+        "x" + from, up to "x" + (to - 1), in order.
+    */
+    private static void expectRun(MyDurableQueue<String> queue, int from, int to){
+        for (int i = from; i < to; i++) {
+            String element = queue.dequeue();
+            check(element.equals("x" + i), "expected x" + i + " but got " + element);
+        }
+        check(queue.isEmpty(), "expected the queue to be empty");
+    }
+
+    private static Path crashImage(Path directory) throws IOException{
+        Path image = Files.createTempDirectory("durable-queue-image");
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.copy(file, image.resolve(file.getFileName()));
+            }
+        }
+        return image;
+    }
+
+    private static long headerLong(Path directory, int at) throws IOException{
+        return ByteBuffer.wrap(Files.readAllBytes(directory.resolve("queue.header"))).getLong(at);
+    }
+
+    private static Path segmentFile(Path directory, int segment){
+        return directory.resolve(String.format("segment-%010d.dat", segment));
+    }
+
+    private static void delete(Path directory) throws IOException{
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> {
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private static void check(boolean condition, String message){
+        if (!condition) throw new IllegalStateException(message);
+    }
+} // end class
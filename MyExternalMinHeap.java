@@ -0,0 +1,466 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+*   This class implements a min-heap that can hold
+*   more elements than fit in memory.
+*
+*   New elements go into an in-memory MyMinHeap. When
+*   that heap grows past a budget, it's sorted in place
+*   and written out ("spilled") to a file as a sorted
+*   run, and the in-memory heap starts over empty.
+*
+*   Removal is a k-way merge: a second, small heap
+*   holds the first unread element ("head") of every
+*   run, and the smaller of that heap's minimum and the
+*   in-memory heap's minimum comes out next. Each run
+*   is read through a buffer, a little at a time, as
+*   its elements are used up, and its file is deleted
+*   once it's empty.
+*
+*   The number of runs is capped: when a spill pushes
+*   it past the limit, the smaller half of the runs are
+*   merged into one new run. Each run reads through a
+*   buffer sized so that all the buffers together fit
+*   a fixed memory budget. So at most 'budget' elements,
+*   plus 'maxRuns' heads and buffers, are in memory
+*   (and, outside of a merge, at most 'maxRuns' files
+*   are open) at once. A merge reads its runs through
+*   separate cursors, and only deletes them once the
+*   merged run is fully written, so a merge that fails
+*   leaves the heap as it was.
+*
+*   Elements are written and read with a MySerializer.
+*   Close the heap when done with it, to delete any
+*   files left over.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyExternalMinHeap<T extends Comparable<T>> implements Closeable{
+    private static final int DEFAULT_MAX_RUNS = 64;
+    private static final int DEFAULT_BUFFER_MEMORY = 4 * 1024 * 1024;
+    private static final int MIN_BUFFER_SIZE = 4 * 1024;
+
+    private final int budget;
+    private final int maxRuns;
+    private final int bufferSize;       // per run, so that maxRuns of them fit the buffer memory
+    private final MySerializer<T> serializer;
+    private final Path directory;
+    private final boolean ownsDirectory;
+    private final MyMinHeap<T> memory;
+    private final MyMinHeap<Run> runs;
+    private long size;
+    private int runCount;       // the number of runs spilled so far, for naming files
+
+    /**
+        Builds an empty heap that spills to a
+        new temporary directory.
+
+        @param budget the most elements to keep in memory
+        @param serializer how to write elements to disk and read them back
+    */
+    public MyExternalMinHeap(int budget, MySerializer<T> serializer){
+        this(budget, serializer, createTempDirectory(), true, DEFAULT_MAX_RUNS, DEFAULT_BUFFER_MEMORY);
+    }
+
+    /**
+        @param budget the most elements to keep in memory
+        @param serializer how to write elements to disk and read them back
+        @param directory where to put the spilled runs
+    */
+    public MyExternalMinHeap(int budget, MySerializer<T> serializer, Path directory){
+        this(budget, serializer, directory, false, DEFAULT_MAX_RUNS, DEFAULT_BUFFER_MEMORY);
+    }
+
+    /**
+        @param budget the most elements to keep in memory
+        @param serializer how to write elements to disk and read them back
+        @param directory where to put the spilled runs
+        @param maxRuns the most runs to keep open at once
+        @param bufferMemory the bytes to spend on read buffers, across all runs
+    */
+    public MyExternalMinHeap(int budget, MySerializer<T> serializer, Path directory,
+                             int maxRuns, int bufferMemory){
+        this(budget, serializer, directory, false, maxRuns, bufferMemory);
+    }
+
+    private MyExternalMinHeap(int budget, MySerializer<T> serializer, Path directory, boolean ownsDirectory,
+                              int maxRuns, int bufferMemory){
+        if (budget < 1)  throw new IllegalArgumentException("budget must be at least 1: " + budget);
+        if (maxRuns < 2) throw new IllegalArgumentException("max runs must be at least 2: " + maxRuns);
+
+        this.budget = budget;
+        this.maxRuns = maxRuns;
+        this.bufferSize = Math.max(MIN_BUFFER_SIZE, bufferMemory / maxRuns);
+        this.serializer = serializer;
+        this.directory = directory;
+        this.ownsDirectory = ownsDirectory;
+        this.memory = new MyMinHeap<T>(Math.min(budget + 1, 1024));
+        this.runs = new MyMinHeap<Run>();
+        this.size = 0;
+        this.runCount = 0;
+    }
+
+    public boolean isEmpty(){return size == 0;}
+
+    /**
+        @return the number of elements in this heap,
+                in memory and on disk
+    */
+    public long size()      {return size;     }
+
+    /**
+        Inserts an element into this heap, spilling
+        the in-memory part to disk if it's over budget.
+        @param data the object to be inserted
+    */
+    public void insert(T data){
+        if (data == null) return;
+
+        memory.insert(data);
+        size++;
+
+        if (memory.size() > budget)
+            spill();
+    }
+
+    public T peek(){
+        if (this.isEmpty())
+            throw new IllegalStateException();
+
+        return fromMemory() ? memory.peek() : runs.peek().head;
+    }
+
+    /**
+        Removes the minimum value of this heap,
+        whether it's in memory or on disk.
+    */
+    public T remove(){
+        if (this.isEmpty()) throw new IllegalStateException();
+
+        size--;
+        if (fromMemory())
+            return memory.remove();
+
+        Run run = runs.remove();        // Take the head of the run with the smallest head,
+        T element = run.head;
+        if (run.advance())              // read that run's next element,
+            runs.insert(run);           // and put it back in line, unless it's used up.
+
+        return element;
+    }
+
+    /**
+        Closes and deletes every remaining run.
+    */
+    @Override
+    public void close(){
+        while (!runs.isEmpty()) {
+            runs.remove().discard();
+        }
+        if (ownsDirectory) {
+            try {
+                Files.deleteIfExists(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+        @return 'true' if the next element to come
+                out of this heap is in memory
+    */
+    private boolean fromMemory(){
+        if (runs.isEmpty()) return true;
+        if (memory.isEmpty()) return false;
+
+        return memory.peek().compareTo(runs.peek().head) <= 0;
+    }
+
+    /**
+        Sorts the in-memory heap in place, writes
+        it to a new run file, and empties it. If the
+        write fails, the elements go back into memory
+        and the partial file is deleted.
+    */
+    @SuppressWarnings("unchecked")
+    private void spill(){
+        int count = memory.size();
+        T[] sorted = memory.toSortedArray((T[]) new Comparable<?>[count]);
+        Path file = directory.resolve("run-" + (runCount++) + ".bin");
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), bufferSize))) {
+            out.writeLong(count);
+            for (T element : sorted) {
+                serializer.write(element, out);
+            }
+        } catch (IOException | RuntimeException e) {
+            memory.insertAll(Arrays.asList(sorted));
+            deleteQuietly(file, e);
+            throw (e instanceof IOException) ? new UncheckedIOException((IOException) e) : (RuntimeException) e;
+        }
+
+        Run run = new Run(file);
+        if (run.advance())
+            runs.insert(run);
+
+        if (runs.size() > maxRuns)
+            mergeSmallestRuns();
+    }
+
+    /**
+        Merges the smaller half of the runs (by the
+        number of elements left in each) into one new
+        run, so that the number of runs stays under
+        maxRuns. Merging the smallest ones keeps each
+        element from being rewritten too many times.
+
+        The runs being merged are read through cursors
+        of their own, and are only deleted once the new
+        run is written. If anything goes wrong, they go
+        back in line untouched, and the new file is deleted.
+    */
+    private void mergeSmallestRuns(){
+        ArrayList<Run> all = new ArrayList<>();
+        while (!runs.isEmpty()) {
+            all.add(runs.remove());
+        }
+        all.sort(Comparator.comparingLong(run -> run.remaining));
+
+        int mergeCount = all.size() - maxRuns / 2;
+        ArrayList<Run> sources = new ArrayList<>(mergeCount);
+        long count = 0;
+        for (int i = 0; i < all.size(); i++) {
+            if (i < mergeCount) {
+                sources.add(all.get(i));
+                count += all.get(i).remaining + 1;      // (plus its head)
+            } else {
+                runs.insert(all.get(i));
+            }
+        }
+
+        Path file = directory.resolve("run-" + (runCount++) + ".bin");
+        ArrayList<Run> cursors = new ArrayList<>(mergeCount);
+        Run merged = null;
+        try {
+            MyMinHeap<Run> merging = new MyMinHeap<Run>(mergeCount);
+            for (Run source : sources) {
+                Run cursor = source.cursor();
+                cursors.add(cursor);
+                if (cursor.advance())
+                    merging.insert(cursor);
+            }
+
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(file), bufferSize))) {
+                out.writeLong(count);
+                while (!merging.isEmpty()) {
+                    Run cursor = merging.remove();      // Write out the smallest head,
+                    serializer.write(cursor.head, out);
+                    if (cursor.advance())               // and put its cursor back in line.
+                        merging.insert(cursor);
+                }
+            }
+
+            merged = new Run(file);
+            merged.advance();
+        } catch (IOException | RuntimeException e) {
+            for (Run cursor : cursors) {
+                cursor.closeQuietly(e);
+            }
+            if (merged != null)
+                merged.closeQuietly(e);
+            for (Run source : sources) {
+                runs.insert(source);
+            }
+            deleteQuietly(file, e);
+            throw (e instanceof IOException) ? new UncheckedIOException((IOException) e) : (RuntimeException) e;
+        }
+
+        runs.insert(merged);
+        for (Run source : sources) {
+            source.discard();
+        }
+    }
+
+    /**
+        Deletes a file after a failure, recording
+        any trouble deleting it on the original error.
+    */
+    private static void deleteQuietly(Path file, Exception failure){
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static Path createTempDirectory(){
+        try {
+            return Files.createTempDirectory("external-heap");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+        A sorted run on disk, read one element at
+        a time. Runs are ordered by their heads.
+    */
+    private class Run implements Comparable<Run>{
+        private final Path file;
+        private final boolean ownsFile;     // 'false' for a cursor, which leaves the file alone
+        private final CountingInputStream counter;
+        private final DataInputStream in;
+        private long remaining;     // the number of elements not yet read
+        private long headOffset;    // where the head starts in the file
+        private T head;             // the smallest element not yet removed
+
+        private Run(Path file){
+            this.file = file;
+            this.ownsFile = true;
+            try {
+                this.counter = new CountingInputStream(
+                    new BufferedInputStream(Files.newInputStream(file), bufferSize), 0);
+                this.in = new DataInputStream(counter);
+                this.remaining = in.readLong();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+            Opens a second reader over another run's
+            file, starting from that run's head.
+        */
+        private Run(Run run) throws IOException{
+            this.file = run.file;
+            this.ownsFile = false;
+            InputStream stream = Files.newInputStream(file);
+            try {
+                stream.skipNBytes(run.headOffset);
+            } catch (IOException | RuntimeException e) {
+                stream.close();
+                throw e;
+            }
+            this.counter = new CountingInputStream(new BufferedInputStream(stream, bufferSize), run.headOffset);
+            this.in = new DataInputStream(counter);
+            this.remaining = run.remaining + 1;         // (plus its head)
+        }
+
+        /**
+            @return a new reader over this run's elements,
+                    from its head on, that doesn't change
+                    this run or delete its file
+        */
+        private Run cursor() throws IOException{
+            return new Run(this);
+        }
+
+        /**
+            Reads the next element into head, or closes
+            (and, unless this is a cursor, deletes) this
+            run if it's used up.
+            @return 'false' if this run is used up
+        */
+        private boolean advance(){
+            if (remaining == 0) {
+                discard();
+                return false;
+            }
+
+            try {
+                headOffset = counter.count;
+                head = serializer.read(in);
+                remaining--;
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void discard(){
+            head = null;
+            try {
+                in.close();
+                if (ownsFile)
+                    Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+            Closes this run's stream after a failure,
+            recording any trouble on the original error.
+        */
+        private void closeQuietly(Exception failure){
+            try {
+                in.close();
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+
+        @Override
+        public int compareTo(Run other){
+            return head.compareTo(other.head);
+        }
+    }
+
+    /**
+        Counts the bytes read through it, so a run
+        knows where in its file each head starts.
+    */
+    private static class CountingInputStream extends FilterInputStream{
+        private long count;
+
+        private CountingInputStream(InputStream in, long start){
+            super(in);
+            this.count = start;
+        }
+
+        @Override
+        public int read() throws IOException{
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException{
+            int n = super.read(bytes, offset, length);
+            if (n > 0) count += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException{
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported(){return false;}
+    }
+} // end class
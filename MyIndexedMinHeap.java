@@ -0,0 +1,284 @@
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+*   This class implements an indexed min-heap,
+*   built from an array.
+*
+*   Alongside the array, the heap keeps a map from
+*   each element to its current index, which swap
+*   keeps up to date. That makes it possible to find
+*   any element in O(1) time, and so to remove it or
+*   change its priority in O(log n) time, which a
+*   plain MyMinHeap can't do.
+*
+*   Elements are used as map keys, so they must be
+*   distinct, and their equals and hashCode must not
+*   depend on the fields that decide their order.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyIndexedMinHeap<T extends Comparable<T>>{
+    private int capacity;
+    private int size;
+    private T[] elements;
+    private HashMap<T, Integer> positions;
+
+
+    public MyIndexedMinHeap(){
+        this(10);
+    }
+
+    @SuppressWarnings("unchecked")
+    public MyIndexedMinHeap(int capacity){
+        this.capacity = capacity;
+        size = 0;
+        elements = (T[]) new Comparable<?>[capacity];
+        positions = new HashMap<>();
+    }
+
+    public boolean isEmpty(){return size == 0;       }
+    public boolean isFull() {return size == capacity;}
+    public int size()       {return size;            }
+
+    private int leftChildIndex(int i)   {return i*2 + 1;}
+    private int rightChildIndex(int i)  {return i*2 + 2;}
+    private int parentIndex(int i)      {return (i-1)/2;}
+
+    private boolean hasLeftChild(int i) {return leftChildIndex(i) < size;   }
+    private boolean hasRightChild(int i){return rightChildIndex(i) < size;  }
+    private boolean hasParent(int i)    {return i > 0;                      }
+
+    /**
+        Tests if an element is in this heap, in O(1) time.
+    */
+    public boolean contains(T element){
+        return positions.containsKey(element);
+    }
+
+    /**
+        Inserts an element into this heap,
+        preserving the MinHeap property.
+        @param data the object to be inserted
+        @throws IllegalArgumentException if the element is already in this heap
+    */
+    public void insert(T data){
+        if (data == null) return;
+        if (contains(data)) throw new IllegalArgumentException("already in this heap: " + data);
+
+        ensureExtraCapacity();
+        elements[size] = data;
+        positions.put(data, size);
+        size++;
+        bubbleUp(size-1);
+    }
+
+    /**
+        Removes the root (minimum value) of
+        this heap, while maintaining the
+        heap property.
+    */
+    public T remove(){
+        if (this.isEmpty()) throw new IllegalStateException();
+
+        T element = elements[0];
+        removeAt(0);
+        return element;
+    }
+
+    /**
+        Removes a particular element from this heap,
+        while maintaining the heap property.
+
+        @param element the element to be removed
+        @return 'true' if the element was in this heap
+    */
+    public boolean remove(T element){
+        Integer i = positions.get(element);
+        if (i == null) return false;
+
+        removeAt(i);
+        return true;
+    }
+
+    /**
+        Replaces an element with a smaller one,
+        and moves it up to where it now belongs.
+
+        @param element the element already in this heap
+        @param smaller its replacement, which must not be larger
+        @throws IllegalArgumentException if element isn't in this heap,
+                the replacement is larger than it, or the
+                replacement is already in this heap
+    */
+    public void decreaseKey(T element, T smaller){
+        if (smaller.compareTo(element) > 0)
+            throw new IllegalArgumentException("new key is larger: " + smaller);
+
+        bubbleUp(replace(element, smaller));
+    }
+
+    /**
+        Replaces an element with a larger one,
+        and moves it down to where it now belongs.
+
+        @param element the element already in this heap
+        @param larger its replacement, which must not be smaller
+        @throws IllegalArgumentException if element isn't in this heap,
+                the replacement is smaller than it, or the
+                replacement is already in this heap
+    */
+    public void increaseKey(T element, T larger){
+        if (larger.compareTo(element) < 0)
+            throw new IllegalArgumentException("new key is smaller: " + larger);
+
+        bubbleDown(replace(element, larger));
+    }
+
+    /**
+        Moves an element to where it belongs after
+        its priority has been changed in place.
+
+        @param element an element in this heap whose order has changed
+        @throws IllegalArgumentException if element isn't in this heap
+    */
+    public void update(T element){
+        Integer i = positions.get(element);
+        if (i == null) throw new IllegalArgumentException("not in this heap: " + element);
+
+        bubbleDown(bubbleUp(i));
+    }
+
+    public T peek(){
+        if (this.isEmpty())
+            throw new IllegalStateException();
+
+        return elements[0];
+    }
+
+    /**
+        Swaps an element in this heap for another,
+        without restoring the heap property.
+
+        @return the index of the replacement
+    */
+    private int replace(T element, T replacement){
+        Integer i = positions.get(element);
+        if (i == null) throw new IllegalArgumentException("not in this heap: " + element);
+        if (!replacement.equals(element) && contains(replacement))
+            throw new IllegalArgumentException("already in this heap: " + replacement);
+
+        positions.remove(element);
+        elements[i] = replacement;
+        positions.put(replacement, i);
+        return i;
+    }
+
+    /**
+        Removes the element at some index, filling
+        the gap with the last element and moving it
+        to where it belongs.
+    */
+    private void removeAt(int i){
+        positions.remove(elements[i]);
+        size--;
+
+        if (i == size) {                // If the last element was removed,
+            elements[size] = null;      // there's no gap to fill.
+            return;
+        }
+
+        elements[i] = elements[size];   // Otherwise, copy the last element into the gap,
+        elements[size] = null;          // delete the last element,
+        positions.put(elements[i], i);
+        bubbleDown(bubbleUp(i));        // and move it up or down, whichever it needs.
+    }
+
+    /**
+        Moves the element at some index up
+        until its parent is no larger.
+
+        @return the element's new index
+    */
+    private int bubbleUp(int i){
+        while (hasParent(i) && (elements[parentIndex(i)].compareTo(elements[i]) > 0)){
+            swap(i, parentIndex(i));
+            i = parentIndex(i);
+        }
+        return i;
+    }
+
+    /**
+        Moves the element at some index down
+        until none of its children are smaller.
+    */
+    private void bubbleDown(int i){
+        while (hasLeftChild(i)) {
+            int smallerChildIndex = smallerChildIndex(i);
+
+            if (elements[i].compareTo(elements[smallerChildIndex]) <= 0) {
+                break;
+            } else {
+                swap(i, smallerChildIndex);
+                i = smallerChildIndex;
+            }
+        }
+    }
+
+    /**
+        Returns the index of a "node's" smaller child.
+        Assumes that index has at least a left child.
+    */
+    private int smallerChildIndex(int i){
+        int smallerChildIndex = leftChildIndex(i);
+
+        if (hasRightChild(i) && (elements[rightChildIndex(i)].compareTo(elements[smallerChildIndex]) < 0)) {
+            smallerChildIndex = rightChildIndex(i);
+        }
+
+        return smallerChildIndex;
+    }
+
+    /**
+        Swaps the elements at two indexes,
+        and records their new positions.
+    */
+    private void swap(int i1, int i2){
+        T temp = elements[i1];
+        elements[i1] = elements[i2];
+        elements[i2] = temp;
+
+        positions.put(elements[i1], i1);
+        positions.put(elements[i2], i2);
+    }
+
+    /**
+        If this heap is full, this method
+        doubles this heap's capacity.
+    */
+    private void ensureExtraCapacity(){
+        if (this.isFull()) {
+            capacity = Math.max(1, capacity*2);
+            elements = Arrays.copyOf(elements, capacity);
+        }
+    }
+
+    /**
+        @return a string containing each element in this heap,
+                separated by spaces.
+    */
+    public String toString(){
+        String output = "";
+
+        for (int i = 0; i < size; i++){
+            output += "" + elements[i] + " ";
+        }
+
+        return output.trim();
+    }
+} // end class
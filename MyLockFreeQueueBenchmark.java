@@ -0,0 +1,144 @@
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+*   This class measures the throughput and latency of
+*   MySpscQueue and MyMpscQueue, against the baseline
+*   they replace: a MyQueue guarded by synchronized.
+*
+*   Each run starts some producer threads, which send
+*   timestamps (System.nanoTime) through the queue to
+*   the main thread. The consumer subtracts each stamp
+*   from the time it arrived, so latency here means the
+*   time an element spent in the queue, including any
+*   time its producer was blocked by a full queue.
+*
+*   Usage: java MyLockFreeQueueBenchmark [messages] [capacity]
+*
+*   Waiting threads spin for a while, then yield, so
+*   the benchmark still makes progress on a machine
+*   with fewer cores than threads (but the numbers from
+*   such a machine mostly measure the scheduler).
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyLockFreeQueueBenchmark{
+    private static final int SPINS_BEFORE_YIELD = 100;
+
+    public static void main(String[] args) throws InterruptedException{
+        int messages = (args.length > 0) ? Integer.parseInt(args[0]) : 2_000_000;
+        int capacity = (args.length > 1) ? Integer.parseInt(args[1]) : 1024;
+
+        System.out.println("messages: " + messages + ", capacity: " + capacity
+                           + ", processors: " + Runtime.getRuntime().availableProcessors());
+        System.out.println();
+
+        for (int round = 0; round < 2; round++) {               // (the first round warms up the JIT)
+            boolean report = (round == 1);
+
+            MySpscQueue<Long> spsc = new MySpscQueue<Long>(capacity);
+            run("MySpscQueue", 1, messages, spsc::offer, spsc::poll, report);
+
+            for (int producers : new int[] {1, 2, 4}) {
+                MyMpscQueue<Long> mpsc = new MyMpscQueue<Long>(capacity);
+                run("MyMpscQueue", producers, messages, mpsc::offer, mpsc::poll, report);
+
+                SynchronizedQueue baseline = new SynchronizedQueue(capacity);
+                run("synchronized MyQueue", producers, messages, baseline::offer, baseline::poll, report);
+            }
+        }
+    }
+
+    /**
+        Sends messages through a queue from some number
+        of producer threads to this thread, and prints
+        the throughput and latency percentiles.
+    */
+    private static void run(String name, int producers, int messages,
+                            Predicate<Long> offer, Supplier<Long> poll, boolean report)
+            throws InterruptedException{
+        int perProducer = messages / producers;
+        int total = perProducer * producers;
+        Thread[] threads = new Thread[producers];
+
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    Long stamp = System.nanoTime();
+                    for (int spins = 0; !offer.test(stamp); spins++) {
+                        backOff(spins);
+                    }
+                }
+            });
+        }
+
+        long[] latencies = new long[total];
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        for (int received = 0; received < total; received++) {
+            Long stamp;
+            for (int spins = 0; (stamp = poll.get()) == null; spins++) {
+                backOff(spins);
+            }
+            latencies[received] = System.nanoTime() - stamp;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (!report) return;
+
+        Arrays.sort(latencies);
+        System.out.printf("%-22s producers: %d   %7.2f M msgs/s   latency (us) p50: %8.1f  p99: %8.1f"
+                          + "  p99.9: %8.1f  max: %9.1f%n",
+                          name, producers, total * 1000.0 / elapsed,
+                          percentile(latencies, 0.50), percentile(latencies, 0.99),
+                          percentile(latencies, 0.999), latencies[total - 1] / 1000.0);
+    }
+
+    private static double percentile(long[] sorted, double fraction){
+        return sorted[(int) Math.min(sorted.length - 1, (long) (fraction * sorted.length))] / 1000.0;
+    }
+
+    private static void backOff(int spins){
+        if (spins < SPINS_BEFORE_YIELD)
+            Thread.onSpinWait();
+        else
+            Thread.yield();
+    }
+
+    /**
+        The baseline: a bounded MyQueue, with every
+        operation under the queue's monitor.
+    */
+    private static final class SynchronizedQueue{
+        private final MyQueue<Long> queue;
+        private final int capacity;
+
+        private SynchronizedQueue(int capacity){
+            this.queue = new MyQueue<Long>(capacity);
+            this.capacity = capacity;
+        }
+
+        private synchronized boolean offer(Long element){
+            if (queue.size() == capacity) return false;
+
+            queue.enqueue(element);
+            return true;
+        }
+
+        private synchronized Long poll(){
+            return queue.isEmpty() ? null : queue.dequeue();
+        }
+    }
+} // end class
@@ -1,9 +1,20 @@
 import java.util.Arrays;
+import java.util.Collection;
 
 /**
 *   This class implements a min-heap,
 *   built from an array.
 *
+*   The heap is d-ary: each "node" has up to
+*   'arity' children, stored side by side in the
+*   array. A wider heap is shallower, so bubbling
+*   down takes fewer levels (and fewer cache misses),
+*   at the cost of comparing more children per level.
+*   Arities of 2, 4 and 8 are the usual choices.
+*
+*   A heap can also be bounded to K elements, to keep
+*   the K largest values out of a stream: see topK.
+*
 *   For educational purposes.
 *
 *   @author         Maximilian Spedale
@@ -14,52 +25,99 @@ import java.util.Arrays;
 public class MyMinHeap<T extends Comparable<T>>{
     private int capacity;
     private int size;
+    private int arity;
+    private int bound;  // the most elements this heap will keep, or 0 for no limit
     private T[] elements;
 
 
     public MyMinHeap(){
-        capacity = 10;
-        size = 0;
-        elements = (T[]) new Comparable[capacity];
+        this(10);
     }
 
     public MyMinHeap(int capacity){
+        this(capacity, 2);
+    }
+
+    /**
+        @param capacity the number of elements this heap can hold before it has to grow
+        @param arity the number of children per "node"; usually 2, 4 or 8
+    */
+    @SuppressWarnings("unchecked")
+    public MyMinHeap(int capacity, int arity){
+        if (arity < 2) throw new IllegalArgumentException("arity must be at least 2: " + arity);
+
         this.capacity = capacity;
+        this.arity = arity;
         size = 0;
-        elements = (T[]) new Comparable[capacity];
+        elements = (T[]) new Comparable<?>[capacity];
     }
 
+    /**
+        Builds a heap out of an array of elements
+        in O(n) time, by heapifying them in place
+        instead of inserting them one at a time.
+        Null elements are skipped.
+    */
+    @SuppressWarnings("unchecked")
     public MyMinHeap(T[] data){
         capacity = data.length;
         size = 0;
-        elements = (T[]) new Comparable[capacity];
+        arity = 2;
+        elements = (T[]) new Comparable<?>[capacity];
 
         for (T d : data) {
-            this.insert(d);
+            if (d != null) elements[size++] = d;
         }
+        heapify();
+    }
+
+    /**
+        Builds an empty heap that keeps only the k
+        largest values offered to it, using O(k)
+        memory and O(log k) time per offer.
+        @param k the number of values to keep
+    */
+    public static <T extends Comparable<T>> MyMinHeap<T> topK(int k){
+        if (k < 1) throw new IllegalArgumentException("k must be at least 1: " + k);
+
+        MyMinHeap<T> heap = new MyMinHeap<T>(k);
+        heap.bound = k;
+        return heap;
     }
 
     public boolean isEmpty(){return size == 0;       }
     public boolean isFull() {return size == capacity;}
+    public int size()       {return size;            }
 
-    private int leftChildIndex(int i)   {return i*2 + 1;}
-    private int rightChildIndex(int i)  {return i*2 + 2;}
-    private int parentIndex(int i)      {return (i-1)/2;}
+    private int firstChildIndex(int i)  {return i*arity + 1;}
+    private int parentIndex(int i)      {return (i-1)/arity;}
 
-    private T leftChild(int i)  {return elements[leftChildIndex(i)];    }
-    private T rightChild(int i) {return elements[rightChildIndex(i)];   }
-    private T parent(int i)     {return elements[parentIndex(i)];       }
+    private T parent(int i)     {return elements[parentIndex(i)];}
 
-    private boolean hasLeftChild(int i) {return leftChildIndex(i) < size;   }
-    private boolean hasRightChild(int i){return rightChildIndex(i) < size;  }
-    private boolean hasParent(int i)    {return parentIndex(i) >= 0;        }
+    private boolean hasChild(int i)     {return firstChildIndex(i) < size;}
+    private boolean hasParent(int i)    {return i > 0;}
 
     /**
         Inserts an element into this heap,
         preserving the MinHeap property.
+        A bounded heap treats this as an offer,
+        so it never grows past its bound.
         @param data the object to be inserted
     */
     public void insert(T data){
+        if (bound > 0) {
+            offer(data);
+            return;
+        }
+
+        add(data);
+    }
+
+    /**
+        Adds an element to the end of the
+        array and bubbles it up.
+    */
+    private void add(T data){
         if (data == null) return;
 
         ensureExtraCapacity();
@@ -68,6 +126,46 @@ public class MyMinHeap<T extends Comparable<T>>{
         bubbleUp();
     }
 
+    /**
+        Offers an element to this heap. An unbounded
+        heap simply inserts it. A full bounded heap
+        compares it with its minimum: if the element is
+        larger, it replaces the minimum, and otherwise
+        it's dropped.
+
+        @param data the object being offered
+        @return 'true' if the element was kept
+    */
+    public boolean offer(T data){
+        if (data == null) return false;
+
+        if (bound == 0 || size < bound) {
+            add(data);
+            return true;
+        }
+
+        if (data.compareTo(elements[0]) <= 0)   // If it's no bigger than the smallest value kept,
+            return false;                       // it doesn't make the cut.
+
+        elements[0] = data;                     // Otherwise, it replaces the smallest value,
+        bubbleDown(0);                          // and sinks to where it belongs.
+        return true;
+    }
+
+    /**
+        Offers every element of another heap to this one,
+        e.g. to combine several partial top-K results.
+        The other heap isn't modified. Merging a heap
+        with itself does nothing.
+    */
+    public void merge(MyMinHeap<T> other){
+        if (other == this) return;     // (its elements are all in already)
+
+        for (int i = 0; i < other.size; i++) {
+            offer(other.elements[i]);
+        }
+    }
+
     /**
         Restores the heap property.
         Assumes an insertion has just occurred.
@@ -93,22 +191,128 @@ public class MyMinHeap<T extends Comparable<T>>{
         elements[0] = elements[size-1]; // copy the last element to the front,
         elements[size-1] = null;        // delete the last element,
         size--;                         // adjust the heap's size,
-        bubbleDown();                   // and restore the heap property.
+        bubbleDown(0);                  // and restore the heap property.
 
         return element;
     }
 
     /**
-        Restores the heap property.
-        Assumes the root has just been deleted.
+        Inserts a batch of elements into this heap.
+
+        If the batch is small compared to the heap, each
+        element is bubbled up on its own. If it's large,
+        the whole batch is appended and the heap is
+        rebuilt once, which is cheaper than that many
+        separate insertions. Null elements are skipped.
+        A bounded heap offers each element instead.
+
+        @param data the elements to be inserted
     */
-    private void bubbleDown(){
-        int i=0; // the index of the element being bubbled down.
+    public void insertAll(Collection<? extends T> data){
+        if (bound > 0) {
+            for (T d : data) {
+                offer(d);
+            }
+            return;
+        }
+
+        int total = size + data.size();
+        int log = 32 - Integer.numberOfLeadingZeros(total);     // (about log2 of the new size)
 
-        while (hasLeftChild(i)) {                           // because of how heaps fill up, you only need to check the left side.
+        if ((long) data.size() * log <= total) {    // k bubble-ups cost about k*log(n),
+            for (T d : data) {                      // and a rebuild costs about n.
+                insert(d);
+            }
+            return;
+        }
+
+        ensureCapacity(total);
+        for (T d : data) {
+            if (d != null) elements[size++] = d;
+        }
+        heapify();
+    }
+
+    /**
+        Empties this heap into an array, in ascending order.
+
+        The sorting happens in place, inside this heap's
+        own array (a heapsort), so the heap doesn't need
+        any extra room.
+
+        @param destination the array to be filled, if it's big enough;
+                           otherwise, a new array of the same type is used
+        @return the array holding the sorted elements
+    */
+    @SuppressWarnings("unchecked")
+    public T[] toSortedArray(T[] destination){
+        int count = size;
+
+        while (size > 1) {              // Repeatedly move the minimum to the end of the heap,
+            swap(0, size-1);            // and shrink the heap in front of it,
+            size--;
+            bubbleDown(0);
+        }
+        size = 0;                       // which leaves the array in descending order.
+
+        T[] result = (destination.length >= count) ? destination
+                   : (T[]) Arrays.copyOf(destination, count, destination.getClass());
+        for (int i = 0; i < count; i++) {
+            result[i] = elements[count-1-i];
+            elements[count-1-i] = null;
+        }
+        if (result.length > count)
+            result[count] = null;
+
+        return result;
+    }
+
+    /**
+        Removes up to 'max' of the smallest elements
+        from this heap, in order, and adds them to a
+        collection.
+
+        @param destination the collection the elements are added to
+        @param max the largest number of elements to be removed
+        @return the number of elements removed
+    */
+    public int drainTo(Collection<? super T> destination, int max){
+        int count = 0;
+
+        while (count < max && !this.isEmpty()) {
+            destination.add(this.remove());
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+        Restores the heap property across the whole
+        array, in O(n) time, by bubbling down every
+        "node" that has children, from the last one
+        back up to the root (Floyd's method).
+    */
+    private void heapify(){
+        if (size < 2) return;
+
+        for (int i = parentIndex(size-1); i >= 0; i--) {
+            bubbleDown(i);
+        }
+    }
+
+    /**
+        Restores the heap property below some index.
+        Assumes both subtrees below it are already heaps.
+
+        @param i the index of the element being bubbled down
+    */
+    private void bubbleDown(int i){
+
+        while (hasChild(i)) {                               // because of how heaps fill up, you only need to check the first child.
             int smallerChildIndex = smallerChildIndex(i);
 
-            if (elements[i].compareTo(elements[smallerChildIndex]) < 0) {   // If the heap is in order,
+            if (elements[i].compareTo(elements[smallerChildIndex]) <= 0) {  // If the heap is in order,
                 break;                                                      // do nothing.
             } else {                        // If the heap is still out of order,
                 swap(i, smallerChildIndex); // swap the current element with its smaller child.
@@ -118,17 +322,22 @@ public class MyMinHeap<T extends Comparable<T>>{
     }
 
     /**
-        Returns the index of a "node's" smaller child.
-        Assumes that index has at least a left child.
+        Returns the index of a "node's" smallest child.
+        Assumes that index has at least one child.
+        A node's children sit next to each other in the
+        array, so this is a scan over one contiguous block.
 
         @param i the index of the node whose children are being examined
-        @return the smaller of i's children, or i's only child
+        @return the smallest of i's children, or i's only child
     */
     private int smallerChildIndex(int i){
-        int smallerChildIndex = leftChildIndex(i);
+        int first = firstChildIndex(i);
+        int last = Math.min(first + arity, size);   // (exclusive)
+        int smallerChildIndex = first;
 
-        if (hasRightChild(i) && (rightChild(i).compareTo(leftChild(i)) < 0)) {
-            smallerChildIndex = rightChildIndex(i);
+        for (int c = first + 1; c < last; c++) {
+            if (elements[c].compareTo(elements[smallerChildIndex]) < 0)
+                smallerChildIndex = c;
         }
 
         return smallerChildIndex;
@@ -143,14 +352,25 @@ public class MyMinHeap<T extends Comparable<T>>{
         elements[i2] = temp;
     }
 
+    /**
+        Grows this heap, if needed, so it can hold
+        some number of elements without resizing again.
+    */
+    private void ensureCapacity(int minimum){
+        if (minimum > capacity) {
+            capacity = Math.max(minimum, capacity*2);
+            elements = Arrays.copyOf(elements, capacity);
+        }
+    }
+
     /**
         If this heap is full, this method
         doubles this heap's capacity.
     */
     private void ensureExtraCapacity(){
         if (this.isFull()) {
-            elements = Arrays.copyOf(elements, capacity*2);
-            capacity = capacity*2;
+            capacity = Math.max(1, capacity*2);
+            elements = Arrays.copyOf(elements, capacity);
         }
     }
 
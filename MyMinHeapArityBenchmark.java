@@ -0,0 +1,98 @@
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+*   This class measures which arity of MyMinHeap is
+*   fastest for an insert/remove mix, at heap sizes
+*   from 10^6 to 10^8 elements.
+*
+*   For each size, a heap of each arity (2, 4 and 8)
+*   is filled with that many random values, then runs
+*   the same stream of operations: half insertions of
+*   random values, half removals of the minimum, in
+*   random order, so the heap stays about the same
+*   size. Only the operations are timed. The time per
+*   operation is printed for each arity, along with a
+*   checksum of the values removed, which must be the
+*   same for every arity.
+*
+*   Usage: java -Xmx8g MyMinHeapArityBenchmark [max elements] [operations per run]
+*
+*   A heap of 10^8 boxed values needs several gigabytes
+*   of memory; pass a smaller max (e.g. 10000000) to
+*   stop at 10^7 on a smaller machine.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyMinHeapArityBenchmark{
+    private static final int[] ARITIES = {2, 4, 8};
+
+    public static void main(String[] args){
+        int maxElements = (args.length > 0) ? Integer.parseInt(args[0]) : 100_000_000;
+        int operations = (args.length > 1) ? Integer.parseInt(args[1]) : 2_000_000;
+
+        System.out.println("operations per run: " + operations + ", half inserts, half removes");
+        for (int arity : ARITIES) {                                 // (warms up the JIT)
+            run(arity, Math.min(maxElements, 100_000), operations, false);
+        }
+
+        for (long n = 1_000_000; n <= maxElements; n *= 10) {
+            System.out.println();
+            System.out.println("elements: " + n);
+            for (int arity : ARITIES) {
+                run(arity, (int) n, operations, true);
+            }
+        }
+    }
+
+    /**
+        Fills a heap of some arity with n values,
+        then times the operations on it.
+    */
+    private static void run(int arity, int n, int operations, boolean report){
+        MyMinHeap<Integer> heap = fill(arity, n);
+
+        Random random = new Random(7);
+        Integer[] values = new Integer[operations];         // (boxed up front, so boxing isn't timed)
+        boolean[] inserts = new boolean[operations];
+        for (int i = 0; i < operations; i++) {
+            inserts[i] = random.nextBoolean();
+            values[i] = random.nextInt();
+        }
+
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            if (inserts[i])
+                heap.insert(values[i]);
+            else
+                checksum += heap.remove();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (report)
+            System.out.printf("  arity %d   %7.1f ns/op   (checksum %d)%n",
+                              arity, (double) elapsed / operations, checksum);
+    }
+
+    /**
+        @return a heap of some arity, holding n random
+                values, built in O(n) by insertAll
+    */
+    private static MyMinHeap<Integer> fill(int arity, int n){
+        Random random = new Random(42);
+        ArrayList<Integer> values = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            values.add(random.nextInt());
+        }
+
+        MyMinHeap<Integer> heap = new MyMinHeap<Integer>(n + 16, arity);
+        heap.insertAll(values);
+        return heap;
+    }
+} // end class
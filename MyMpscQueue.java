@@ -0,0 +1,163 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+
+/**
+*   This class implements a bounded, lock-free FIFO
+*   queue for any number of producer threads and one
+*   consumer thread (multi-producer, single-consumer).
+*
+*   It works like MySpscQueue, except that producers
+*   have to share the tail. A producer claims a slot by
+*   moving the tail forward with a compare-and-set, then
+*   writes its element into the slot with a release-write.
+*   Because claiming a slot and filling it are two steps,
+*   the consumer can't trust the tail alone: it reads the
+*   slot itself, with an acquire-read, and a slot that's
+*   been claimed but is still null means a producer is
+*   partway through, so it waits for that producer.
+*
+*   Producers keep a shared "limit", the tail at which
+*   the queue was last known to be full, so they only
+*   read the consumer's head when they get near it.
+*
+*   enqueue and offer may be called from any thread,
+*   but dequeue, poll and peek only from the consumer
+*   thread. size and isEmpty may be called from any
+*   thread, but are only a snapshot. Null elements
+*   aren't allowed, since null marks an empty slot.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyMpscQueue<T>{
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final Object[] buffer;
+    private final int mask;
+    private final MyPaddedSequence head;            // the next slot to read; written only by the consumer
+    private final MyPaddedSequence tail;            // the next slot to claim; shared by the producers
+    private final MyPaddedSequence producerLimit;   // no slot before this one can be full
+
+    /**
+        @param capacity the most elements the queue can hold;
+                        rounded up to a power of two
+    */
+    public MyMpscQueue(int capacity){
+        if (capacity < 1 || capacity > (1 << 30))
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+
+        int length = (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[length];
+        this.mask = length - 1;
+        this.head = new MyPaddedSequence(0);
+        this.tail = new MyPaddedSequence(0);
+        this.producerLimit = new MyPaddedSequence(length);
+    }
+
+    public int capacity(){return buffer.length;}
+
+    /**
+        @return the number of elements in this queue,
+                as of some moment during the call
+    */
+    public int size(){
+        long currentHead = head.getAcquire();
+        long currentTail = tail.getAcquire();
+        return (int) Math.max(0, Math.min(currentTail - currentHead, buffer.length));
+    }
+
+    public boolean isEmpty(){return tail.getAcquire() == head.getAcquire();}
+
+    /**
+        Adds an element to the end of the queue.
+        @throws IllegalStateException if the queue is full
+    */
+    public void enqueue(T element){
+        if (!offer(element))
+            throw new IllegalStateException("queue is full");
+    }
+
+    /**
+        Adds an element to the end of the
+        queue, if there's room.
+        @return 'false' if the queue is full
+    */
+    public boolean offer(T element){
+        if (element == null) throw new IllegalArgumentException("null element");
+
+        long currentTail;
+        do {
+            currentTail = tail.getAcquire();
+            if (currentTail >= producerLimit.getAcquire()) {
+                long currentHead = head.getAcquire();   // Only look at the real head near the limit.
+                if (currentTail - currentHead >= buffer.length)
+                    return false;
+                producerLimit.setRelease(currentHead + buffer.length);
+            }
+        } while (!tail.compareAndSet(currentTail, currentTail + 1));    // Claim the slot,
+
+        SLOT.setRelease(buffer, (int) currentTail & mask, element);    // then publish the element in it.
+        return true;
+    }
+
+    /**
+        Removes the element at the front of
+        the queue. Consumer thread only.
+        @throws NoSuchElementException if the queue is empty
+    */
+    public T dequeue(){
+        T element = poll();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+        Removes the element at the front of the queue,
+        if there is one. Consumer thread only.
+        @return the first in line, or null if the queue is empty
+    */
+    public T poll(){
+        long currentHead = head.getPlain();
+        int index = (int) currentHead & mask;
+        T element = awaitSlot(currentHead, index);
+        if (element == null) return null;
+
+        SLOT.set(buffer, index, null);                  // (so the queue doesn't keep it alive)
+        head.setRelease(currentHead + 1);               // Hand the slot back to the producers.
+        return element;
+    }
+
+    /**
+        Retrieves, but does not remove, the element at
+        the front of the queue. Consumer thread only.
+        @return the first in line, or null if the queue is empty
+    */
+    public T peek(){
+        long currentHead = head.getPlain();
+        return awaitSlot(currentHead, (int) currentHead & mask);
+    }
+
+    /**
+        Reads the slot at the head. If it's empty but
+        has been claimed, waits for its producer to
+        finish writing it.
+        @return the element in the slot, or null if the queue is empty
+    */
+    private T awaitSlot(long currentHead, int index){
+        T element = (T) SLOT.getAcquire(buffer, index);
+        if (element != null) return element;
+
+        if (currentHead == tail.getAcquire())           // Nothing has been claimed: it's really empty.
+            return null;
+
+        while ((element = (T) SLOT.getAcquire(buffer, index)) == null) {
+            Thread.onSpinWait();
+        }
+        return element;
+    }
+} // end class
@@ -0,0 +1,88 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+*   This class implements a long counter that sits
+*   alone on its cache line(s), for the head and tail
+*   sequences of the lock-free queues.
+*
+*   When two counters written by different threads
+*   share a cache line, every write by one thread
+*   invalidates the line in the other's cache, even
+*   though they never touch the same field ("false
+*   sharing"). So the value is padded with seven longs
+*   on each side: 56 bytes, plus the value itself,
+*   fills a 64-byte line, whichever way it's aligned.
+*
+*   The padding lives in superclasses because the JVM
+*   lays out a superclass's fields before a subclass's,
+*   but is free to reorder fields within one class.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public final class MyPaddedSequence extends SequenceRightPadding{
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public MyPaddedSequence(long initialValue){
+        VALUE.setRelease(this, initialValue);
+    }
+
+    /**
+        Reads the value with no ordering at all;
+        only safe for the thread that writes it.
+    */
+    public long getPlain()                 {return (long) VALUE.get(this);         }
+
+    /**
+        Reads the value, so that nothing the current
+        thread does afterwards is moved before it.
+    */
+    public long getAcquire()               {return (long) VALUE.getAcquire(this);  }
+
+    /**
+        Writes the value, so that nothing the current
+        thread did before is moved after it. Paired with
+        getAcquire, this publishes everything written
+        before it to the reading thread.
+    */
+    public void setRelease(long newValue)  {VALUE.setRelease(this, newValue);      }
+
+    /**
+        Atomically sets the value, if it's still
+        what it was expected to be.
+        @return 'true' if the value was set
+    */
+    public boolean compareAndSet(long expected, long newValue){
+        return VALUE.compareAndSet(this, expected, newValue);
+    }
+
+    @Override
+    public String toString(){
+        return Long.toString(getAcquire());
+    }
+} // end class
+
+abstract class SequenceLeftPadding{
+    long p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class SequenceValue extends SequenceLeftPadding{
+    volatile long value;
+}
+
+abstract class SequenceRightPadding extends SequenceValue{
+    long p11, p12, p13, p14, p15, p16, p17;
+}
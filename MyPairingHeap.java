@@ -0,0 +1,203 @@
+/**
+*   This class implements a pairing heap: a
+*   min-heap built from linked nodes, in which two
+*   heaps can be melded together in O(1) time.
+*
+*   Each node keeps a link to its first child, to its
+*   next sibling, and to the node before it (its parent,
+*   if it's a first child, or else its previous sibling).
+*   Melding just makes the larger root the first child
+*   of the smaller one. All the real work is put off
+*   until the root is removed, when its children are
+*   paired up and melded back into one heap, which
+*   costs O(log n) amortized.
+*
+*   insert returns a handle to the new element, which
+*   can later be passed to decreaseKey.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyPairingHeap<T extends Comparable<T>>{
+    private Node<T> root;
+    private int size;
+
+
+    public MyPairingHeap(){
+        root = null;
+        size = 0;
+    }
+
+    public boolean isEmpty(){return root == null;}
+    public int size()       {return size;        }
+
+    /**
+        Inserts an element into this heap, in O(1) time.
+        @param data the object to be inserted
+        @return a handle to the element, for decreaseKey
+    */
+    public Node<T> insert(T data){
+        if (data == null) throw new IllegalArgumentException("null element");
+
+        Node<T> node = new Node<T>(data);
+        root = (root == null) ? node : link(root, node);
+        size++;
+        return node;
+    }
+
+    public T peek(){
+        if (this.isEmpty())
+            throw new IllegalStateException();
+
+        return root.element;
+    }
+
+    /**
+        Removes the root (minimum value) of this heap,
+        then melds its children back together in two
+        passes: first in pairs, left to right, and then
+        the pairs, right to left.
+    */
+    public T remove(){
+        if (this.isEmpty()) throw new IllegalStateException();
+
+        Node<T> oldRoot = root;
+        root = mergePairs(oldRoot.child);
+        oldRoot.child = null;
+        size--;
+
+        return oldRoot.element;
+    }
+
+    /**
+        Moves every element of another heap into this
+        one, in O(1) time. The other heap is left empty.
+        Handles into the other heap now belong to this one.
+    */
+    public void meld(MyPairingHeap<T> other){
+        if (other == this || other.root == null) return;
+
+        root = (root == null) ? other.root : link(root, other.root);
+        size += other.size;
+
+        other.root = null;
+        other.size = 0;
+    }
+
+    /**
+        Replaces an element with a smaller one.
+        The element's subtree is cut loose and melded
+        back in at the top, in O(1) time.
+
+        @param handle the handle insert returned for the element;
+                      it must still be in this heap
+        @param smaller the replacement, which must not be larger
+        @throws IllegalArgumentException if the replacement is larger
+    */
+    public void decreaseKey(Node<T> handle, T smaller){
+        if (smaller.compareTo(handle.element) > 0)
+            throw new IllegalArgumentException("new key is larger: " + smaller);
+
+        handle.element = smaller;
+        if (handle == root) return;
+
+        if (handle.prev.child == handle)            // Cut the node out of its list of siblings,
+            handle.prev.child = handle.sibling;
+        else
+            handle.prev.sibling = handle.sibling;
+        if (handle.sibling != null)
+            handle.sibling.prev = handle.prev;
+        handle.sibling = null;
+        handle.prev = null;
+
+        root = link(root, handle);                  // and meld it (and its subtree) back in.
+    }
+
+    /**
+        Melds two heaps, making the root with the
+        larger element the first child of the other.
+        Assumes both are roots, with no siblings.
+
+        @return the root of the melded heap
+    */
+    private Node<T> link(Node<T> a, Node<T> b){
+        if (b.element.compareTo(a.element) < 0) {
+            Node<T> temp = a;
+            a = b;
+            b = temp;
+        }
+
+        b.sibling = a.child;
+        if (a.child != null) a.child.prev = b;
+        b.prev = a;
+        a.child = b;
+
+        return a;
+    }
+
+    /**
+        Melds a list of siblings into one heap.
+
+        @param first the first sibling, or null
+        @return the root of the new heap, or null
+    */
+    private Node<T> mergePairs(Node<T> first){
+        if (first == null) return null;
+
+        Node<T> pairs = null;               // the melded pairs, most recent first
+        Node<T> a = first;
+
+        while (a != null) {                 // First pass: meld the siblings in pairs.
+            Node<T> b = a.sibling;
+            Node<T> rest = (b == null) ? null : b.sibling;
+
+            a.sibling = null;
+            a.prev = null;
+            Node<T> pair = a;
+            if (b != null) {
+                b.sibling = null;
+                b.prev = null;
+                pair = link(a, b);
+            }
+
+            pair.sibling = pairs;
+            pairs = pair;
+            a = rest;
+        }
+
+        Node<T> result = pairs;             // Second pass: meld the pairs together,
+        Node<T> next = result.sibling;      // starting from the last one.
+        result.sibling = null;
+
+        while (next != null) {
+            Node<T> after = next.sibling;
+            next.sibling = null;
+            result = link(result, next);
+            next = after;
+        }
+
+        result.prev = null;
+        return result;
+    }
+
+    /**
+        This nested class provides the nodes of
+        a pairing heap, which double as handles.
+    */
+    public static final class Node<T>{
+        private T element;
+        private Node<T> child;      // the first child
+        private Node<T> sibling;    // the next sibling
+        private Node<T> prev;       // the parent (for a first child) or the previous sibling
+
+        private Node(T element){
+            this.element = element;
+        }
+
+        public T getElement(){return element;}
+    }
+} // end class
@@ -0,0 +1,142 @@
+import java.util.Random;
+
+/**
+*   This class compares MyPairingHeap against MyMinHeap
+*   on a meld-heavy workload: merging per-worker heaps
+*   into one global heap, over and over.
+*
+*   Every round, each worker's heap gets a batch of
+*   random values, then every worker heap is merged into
+*   the global heap, and the global heap hands out its
+*   smallest values (half of what came in, so it grows
+*   slowly, the way a backlog does). MyPairingHeap merges
+*   with meld, in O(1) per worker; MyMinHeap has to
+*   remove every element from a worker heap and insert
+*   it into the global one. The merging and the whole
+*   round are timed separately, and a checksum of the
+*   values handed out must match for both heaps.
+*
+*   Usage: java MyPairingHeapBenchmark [rounds] [workers] [values per worker per round]
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyPairingHeapBenchmark{
+
+    public static void main(String[] args){
+        int rounds = (args.length > 0) ? Integer.parseInt(args[0]) : 200;
+        int workers = (args.length > 1) ? Integer.parseInt(args[1]) : 8;
+        int perWorker = (args.length > 2) ? Integer.parseInt(args[2]) : 5_000;
+
+        System.out.println("rounds: " + rounds + ", workers: " + workers
+                           + ", values per worker per round: " + perWorker);
+        for (int round = 0; round < 2; round++) {           // (the first round warms up the JIT)
+            boolean report = (round == 1);
+            run("MyPairingHeap (meld)", new PairingHeaps(workers), rounds, workers, perWorker, report);
+            run("MyMinHeap (remove+insert)", new MinHeaps(workers), rounds, workers, perWorker, report);
+        }
+    }
+
+    private static void run(String name, Heaps heaps, int rounds, int workers, int perWorker, boolean report){
+        Random random = new Random(42);
+        Integer[] values = new Integer[workers * perWorker];    // (boxed up front, so boxing isn't timed)
+        long mergeTime = 0;
+        long totalTime = 0;
+        long checksum = 0;
+
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt();
+            }
+
+            long start = System.nanoTime();
+            for (int w = 0; w < workers; w++) {
+                for (int i = w * perWorker; i < (w+1) * perWorker; i++) {
+                    heaps.insert(w, values[i]);
+                }
+            }
+
+            long mergeStart = System.nanoTime();
+            for (int w = 0; w < workers; w++) {
+                heaps.mergeIntoGlobal(w);
+            }
+            long mergeEnd = System.nanoTime();
+
+            for (int i = 0; i < values.length / 2; i++) {
+                checksum += heaps.removeGlobal();
+            }
+            long end = System.nanoTime();
+
+            mergeTime += mergeEnd - mergeStart;
+            totalTime += end - start;
+        }
+
+        if (!report) return;
+        System.out.printf("%-26s merging: %9.1f us/round   whole round: %9.1f us/round   "
+                          + "global size: %d   (checksum %d)%n",
+                          name, mergeTime / 1e3 / rounds, totalTime / 1e3 / rounds,
+                          heaps.globalSize(), checksum);
+    }
+
+    /**
+        The operations both kinds of heap are timed on:
+        some worker heaps, and one global heap.
+    */
+    private interface Heaps{
+        void insert(int worker, Integer value);
+        void mergeIntoGlobal(int worker);
+        int removeGlobal();
+        int globalSize();
+    }
+
+    private static final class PairingHeaps implements Heaps{
+        private final MyPairingHeap<Integer>[] workers;
+        private final MyPairingHeap<Integer> global = new MyPairingHeap<Integer>();
+
+        @SuppressWarnings("unchecked")
+        private PairingHeaps(int count){
+            workers = (MyPairingHeap<Integer>[]) new MyPairingHeap<?>[count];
+            for (int w = 0; w < count; w++) {
+                workers[w] = new MyPairingHeap<Integer>();
+            }
+        }
+
+        public void insert(int worker, Integer value){workers[worker].insert(value);   }
+        public void mergeIntoGlobal(int worker)       {global.meld(workers[worker]);    }
+        public int removeGlobal()                     {return global.remove();          }
+        public int globalSize()                       {return global.size();            }
+    }
+
+    /**
+        The baseline: the only way to merge two
+        MyMinHeaps is to move the elements one by one.
+    */
+    private static final class MinHeaps implements Heaps{
+        private final MyMinHeap<Integer>[] workers;
+        private final MyMinHeap<Integer> global = new MyMinHeap<Integer>();
+
+        @SuppressWarnings("unchecked")
+        private MinHeaps(int count){
+            workers = (MyMinHeap<Integer>[]) new MyMinHeap<?>[count];
+            for (int w = 0; w < count; w++) {
+                workers[w] = new MyMinHeap<Integer>();
+            }
+        }
+
+        public void insert(int worker, Integer value){workers[worker].insert(value);}
+
+        public void mergeIntoGlobal(int worker){
+            MyMinHeap<Integer> heap = workers[worker];
+            while (!heap.isEmpty()) {
+                global.insert(heap.remove());
+            }
+        }
+
+        public int removeGlobal(){return global.remove();}
+        public int globalSize()  {return global.size();  }
+    }
+} // end class
@@ -0,0 +1,337 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+*   This class implements a persistent (immutable),
+*   self-balancing binary search tree.
+*
+*   A tree never changes once it's built. Instead,
+*   add and remove return a new version of the tree.
+*   The new version copies only the nodes on the
+*   path from the root down to the change (O(log n)
+*   of them) and shares every other node with the
+*   old version, which stays valid and readable.
+*
+*   Because of that, keeping hold of a version is
+*   a free, consistent point-in-time snapshot, and
+*   any number of threads can read it at once.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public final class MyPersistentBST<T extends Comparable<T>> implements Iterable<T>{
+    private static final MyPersistentBST<?> EMPTY = new MyPersistentBST<>(null);
+
+    private final Node<T> root;
+
+    private MyPersistentBST(Node<T> root){
+        this.root = root;
+    } // end constructor
+
+    /**
+    *   @return the empty tree
+    */
+    @SuppressWarnings("unchecked")     // (the empty tree holds no values, so it works as a tree of any type)
+    public static <T extends Comparable<T>> MyPersistentBST<T> empty(){
+        return (MyPersistentBST<T>) EMPTY;
+    } // end method empty
+
+    public int getSize(){
+        return size(this.root);
+    } // end method getSize
+
+    /**
+    *   Tests if this tree is empty.
+    *   @return 'true' if this tree is empty
+    */
+    public boolean isEmpty(){
+        return (this.root == null);
+    } // end method isEmpty
+
+    /**
+    *   Tests if this tree contains some value.
+    *   @param value the value to be searched for
+    *   @return 'true' if the value exists in this tree
+    */
+    public boolean contains(T value){
+        Node<T> currentNode = this.root;
+
+        while (currentNode != null){
+            int comparison = value.compareTo(currentNode.data);
+
+            if (comparison == 0)
+                return true;
+            else if (comparison < 0)
+                currentNode = currentNode.leftChild;
+            else
+                currentNode = currentNode.rightChild;
+        }
+
+        return false;
+    } // end method contains
+
+    /**
+    *   Finds the lowest-ordered value
+    *   in this tree.
+    *   @return the lowest value, or null if this tree is empty
+    */
+    public T getMinimum(){
+        Node<T> currentNode = this.root;
+        if (currentNode == null)
+            return null;
+
+        while (currentNode.leftChild != null)
+            currentNode = currentNode.leftChild;
+
+        return currentNode.data;
+    } // end method getMinimum
+
+    /**
+    *   Finds the highest-ordered value
+    *   in this tree.
+    *   @return the highest value, or null if this tree is empty
+    */
+    public T getMaximum(){
+        Node<T> currentNode = this.root;
+        if (currentNode == null)
+            return null;
+
+        while (currentNode.rightChild != null)
+            currentNode = currentNode.rightChild;
+
+        return currentNode.data;
+    } // end method getMaximum
+
+    /**
+    *   Builds a version of this tree that also
+    *   contains some value. Allocates O(log n) nodes.
+    *
+    *   @param data the value to be added
+    *   @return the new version, or this tree if
+    *           the value was already in it
+    */
+    public MyPersistentBST<T> add(T data){
+        Node<T> newRoot = insert(this.root, data);
+        return (newRoot == this.root) ? this : new MyPersistentBST<T>(newRoot);
+    } // end method add
+
+    /**
+    *   Builds a version of this tree without some
+    *   value. Allocates O(log n) nodes.
+    *
+    *   @param data the value to be removed
+    *   @return the new version, or this tree if
+    *           the value wasn't in it
+    */
+    public MyPersistentBST<T> remove(T data){
+        Node<T> newRoot = delete(this.root, data);
+        if (newRoot == this.root)
+            return this;
+        return (newRoot == null) ? empty() : new MyPersistentBST<T>(newRoot);
+    } // end method remove
+
+    /**
+    *   Returns an iterator over the values
+    *   in this tree, in order.
+    */
+    @Override
+    public Iterator<T> iterator(){
+        return new InOrderIterator<T>(this.root);
+    } // end method iterator
+
+    @Override
+    public Spliterator<T> spliterator(){
+        return Spliterators.spliterator(iterator(), getSize(),
+            Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+            | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    } // end method spliterator
+
+    /**
+    *   @return a sequential stream of the values
+    *           in this tree, in order
+    */
+    public Stream<T> stream(){
+        return StreamSupport.stream(spliterator(), false);
+    } // end method stream
+
+    /**
+    *   Recursively inserts a value into a subtree,
+    *   copying every node on the way down.
+    *
+    *   @param n the root of the subtree
+    *   @param data the value to be inserted
+    *   @return the root of the new subtree, or n itself
+    *           if the value was already there
+    */
+    private static <T extends Comparable<T>> Node<T> insert(Node<T> n, T data){
+        if (n == null)
+            return new Node<T>(data, null, null);
+
+        int comparison = data.compareTo(n.data);
+
+        if (comparison < 0){
+            Node<T> left = insert(n.leftChild, data);
+            return (left == n.leftChild) ? n : balance(n.data, left, n.rightChild);
+        } else if (comparison > 0){
+            Node<T> right = insert(n.rightChild, data);
+            return (right == n.rightChild) ? n : balance(n.data, n.leftChild, right);
+        } else {
+            return n;
+        }
+    } // end method insert
+
+    /**
+    *   Recursively removes a value from a subtree,
+    *   copying every node on the way down.
+    *
+    *   @param n the root of the subtree
+    *   @param data the value to be removed
+    *   @return the root of the new subtree, or n itself
+    *           if the value wasn't there
+    */
+    private static <T extends Comparable<T>> Node<T> delete(Node<T> n, T data){
+        if (n == null)
+            return null;
+
+        int comparison = data.compareTo(n.data);
+
+        if (comparison < 0){
+            Node<T> left = delete(n.leftChild, data);
+            return (left == n.leftChild) ? n : balance(n.data, left, n.rightChild);
+        } else if (comparison > 0){
+            Node<T> right = delete(n.rightChild, data);
+            return (right == n.rightChild) ? n : balance(n.data, n.leftChild, right);
+        }
+
+        if (n.leftChild == null)                // with at most one child,
+            return n.rightChild;                // the child simply takes this node's place.
+        if (n.rightChild == null)
+            return n.leftChild;
+
+        Node<T> replacement = n.rightChild;     // with two children, this node's successor takes its place.
+        while (replacement.leftChild != null)
+            replacement = replacement.leftChild;
+
+        return balance(replacement.data, n.leftChild, delete(n.rightChild, replacement.data));
+    } // end method delete
+
+    /**
+    *   Builds a new node out of a value and two
+    *   subtrees, rotating if their heights differ
+    *   by more than one.
+    *
+    *   @return the root of the new, balanced subtree
+    */
+    private static <T> Node<T> balance(T data, Node<T> left, Node<T> right){
+        int balance = height(left) - height(right);
+
+        if (balance > 1){                                       // if the left side is too tall,
+            if (height(left.leftChild) < height(left.rightChild))   // and it leans right,
+                left = rotateLeft(left.data, left.leftChild, left.rightChild);
+            return rotateRight(data, left, right);
+        } else if (balance < -1){                               // if the right side is too tall,
+            if (height(right.rightChild) < height(right.leftChild)) // and it leans left,
+                right = rotateRight(right.data, right.leftChild, right.rightChild);
+            return rotateLeft(data, left, right);
+        }
+
+        return new Node<T>(data, left, right);
+    } // end method balance
+
+    /**
+    *   Builds the subtree (data, left, right),
+    *   rotated to the left.
+    */
+    private static <T> Node<T> rotateLeft(T data, Node<T> left, Node<T> right){
+        return new Node<T>(right.data, new Node<T>(data, left, right.leftChild), right.rightChild);
+    } // end method rotateLeft
+
+    /**
+    *   Builds the subtree (data, left, right),
+    *   rotated to the right.
+    */
+    private static <T> Node<T> rotateRight(T data, Node<T> left, Node<T> right){
+        return new Node<T>(left.data, left.leftChild, new Node<T>(data, left.rightChild, right));
+    } // end method rotateRight
+
+    private static int height(Node<?> n){
+        return (n == null) ? -1 : n.height;
+    } // end method height
+
+    private static int size(Node<?> n){
+        return (n == null) ? 0 : n.size;
+    } // end method size
+
+    /**
+    *   This inner class provides immutable
+    *   Nodes for the tree.
+    */
+    private static final class Node<T>{
+        private final T data;
+        private final Node<T> leftChild;
+        private final Node<T> rightChild;
+        private final int height;
+        private final int size;  // the number of nodes in the subtree rooted here
+
+        public Node(T data, Node<T> leftChild, Node<T> rightChild){
+            this.data = data;
+            this.leftChild = leftChild;
+            this.rightChild = rightChild;
+            this.height = 1 + Math.max(height(leftChild), height(rightChild));
+            this.size = 1 + size(leftChild) + size(rightChild);
+        } // end constructor
+    } // end inner class Node
+
+    /**
+    *   Walks an immutable tree in order, keeping
+    *   the path to the next node on a stack. Since
+    *   the tree is balanced, its height bounds the
+    *   size of the stack.
+    */
+    private static final class InOrderIterator<T> implements Iterator<T>{
+        private final Node<T>[] stack;
+        private int depth;
+
+        @SuppressWarnings("unchecked")
+        public InOrderIterator(Node<T> root){
+            this.stack = (Node<T>[]) new Node<?>[height(root) + 1];
+            this.depth = 0;
+            pushLeftSpine(root);
+        } // end constructor
+
+        @Override
+        public boolean hasNext(){
+            return (this.depth > 0);
+        } // end method hasNext
+
+        @Override
+        public T next(){
+            if (this.depth == 0)
+                throw new NoSuchElementException();
+
+            Node<T> n = this.stack[--this.depth];
+            this.stack[this.depth] = null;
+            pushLeftSpine(n.rightChild);
+            return n.data;
+        } // end method next
+
+        /**
+        *   Pushes a node and all of its left
+        *   descendants onto the stack.
+        */
+        private void pushLeftSpine(Node<T> n){
+            while (n != null){
+                this.stack[this.depth++] = n;
+                n = n.leftChild;
+            }
+        } // end method pushLeftSpine
+    } // end inner class InOrderIterator
+} // end class
@@ -1,27 +1,53 @@
-import java.util.LinkedList;
+import java.util.NoSuchElementException;
 
 /**
 *   This class implements a Queue, a
 *   data structure that operates under
 *   a FIFO (First In, First Out) structure.
 *
-*   This Queue is built on an LinkedList;
-*   the beginning of the list acts as the
-*   "front" of the line, and the end acts
-*   as the "back" of the line.
+*   This Queue is built on a circular array
+*   (a "ring buffer"): 'head' marks the front
+*   of the line, and the back of the line is
+*   'size' slots after it, wrapping around to
+*   the start of the array. The array's length
+*   is always a power of two, so wrapping is
+*   just a bitmask. The array doubles when it
+*   fills up, and halves when it's only a quarter
+*   full, so no memory is allocated per element.
 *
 *   @author         Max Spedale
     Created:        March 3, 2020
-*   Last updated:   March 15, 2020
+*   Last updated:   October 18, 2026
 */
 public class MyQueue<T>{
-    private LinkedList<T> list;
+    private static final int MIN_CAPACITY = 16;
+
+    private T[] elements;
+    private int head;       // the index of the front of the line
+    private int size;
+    private final int minCapacity;
 
     /**
     *   Builds an empty queue.
     */
     public MyQueue(){
-        this.list = new LinkedList();
+        this(MIN_CAPACITY);
+    } // end constructor
+
+    /**
+    *   Builds an empty queue with room for
+    *   some number of elements.
+    *   The queue never shrinks below this size.
+    *
+    *   @param capacity the number of elements this queue
+    *                   can hold before it has to grow
+    */
+    @SuppressWarnings("unchecked")
+    public MyQueue(int capacity){
+        this.minCapacity = roundUpToPowerOfTwo(Math.max(capacity, MIN_CAPACITY));
+        this.elements = (T[]) new Object[this.minCapacity];
+        this.head = 0;
+        this.size = 0;
     } // end constructor
 
 
@@ -32,7 +58,11 @@ public class MyQueue<T>{
     *   @param element the element to be added
     */
     public void enqueue(T element){
-        this.list.add(element);
+        if (this.size == elements.length)
+            resize(elements.length * 2);
+
+        elements[(head + size) & (elements.length - 1)] = element;
+        this.size++;
     } // end method enqueue
 
     /**
@@ -40,9 +70,21 @@ public class MyQueue<T>{
     *   front of the queue.
     *
     *   @return the first in line
+    *   @throws NoSuchElementException if this queue is empty
     */
     public T dequeue(){
-        return this.list.remove();
+        if (this.isEmpty())
+            throw new NoSuchElementException();
+
+        T element = elements[head];
+        elements[head] = null;                          // (so the queue doesn't keep it alive)
+        head = (head + 1) & (elements.length - 1);
+        this.size--;
+
+        if (this.size < elements.length / 4 && elements.length > minCapacity)
+            resize(elements.length / 2);
+
+        return element;
     } // end method dequeue
 
     /**
@@ -52,14 +94,14 @@ public class MyQueue<T>{
     *   Returns null if this queue is empty.
     */
     public T peek(){
-        return this.list.get(0);
+        return this.isEmpty() ? null : elements[head];
     } // end method peek
 
     /**
     *   Tests if the queue is empty.
     */
     public boolean isEmpty(){
-        return this.list.isEmpty();
+        return (this.size == 0);
     } // end method isEmpty
 
     /**
@@ -67,6 +109,29 @@ public class MyQueue<T>{
     *   this queue
     */
     public int size(){
-        return this.list.size();
+        return this.size;
     } // end method size
+
+    /**
+    *   Moves this queue's elements into a new
+    *   array, unwrapping them so the front of
+    *   the line is at index 0.
+    *
+    *   @param capacity the new array's length; a power of two
+    */
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity){
+        T[] resized = (T[]) new Object[capacity];
+        int firstPart = Math.min(size, elements.length - head);     // from head to the end of the array,
+
+        System.arraycopy(elements, head, resized, 0, firstPart);
+        System.arraycopy(elements, 0, resized, firstPart, size - firstPart);   // and whatever wrapped around.
+
+        this.elements = resized;
+        this.head = 0;
+    } // end method resize
+
+    private static int roundUpToPowerOfTwo(int n){
+        return (n <= 1) ? 1 : Integer.highestOneBit(n - 1) << 1;
+    } // end method roundUpToPowerOfTwo
 } // end class
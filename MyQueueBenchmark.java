@@ -0,0 +1,147 @@
+import java.lang.management.ManagementFactory;
+import java.util.LinkedList;
+
+/**
+*   This class compares the throughput and allocation
+*   of MyQueue, backed by a circular array, against
+*   the java.util.LinkedList it used to wrap.
+*
+*   Two workloads are run on each queue:
+*     - steady: the queue holds a fixed number of
+*       elements, and each operation is one enqueue
+*       and one dequeue, like a work queue in balance;
+*     - burst: the queue is filled with a batch of
+*       elements, then drained, over and over, like
+*       MyBST.byLevel walking a tree level by level.
+*
+*   Throughput is in millions of operations (enqueues
+*   plus dequeues) per second. Allocation is the bytes
+*   allocated per enqueue, read from the JVM's per-thread
+*   counter; the elements themselves are boxed up front,
+*   so they don't count. In the burst workload, MyQueue
+*   allocates as its array halves while the queue drains
+*   and doubles again as it refills; the "presized" queue
+*   is built with room for a whole batch, which it never
+*   shrinks below, so it allocates nothing.
+*
+*   Usage: java MyQueueBenchmark [operations per run] [queue size]
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyQueueBenchmark{
+    private static final int WARMUP_ROUNDS = 3;
+    private static final Integer[] VALUES = new Integer[1024];
+
+    public static void main(String[] args){
+        int operations = (args.length > 0) ? Integer.parseInt(args[0]) : 20_000_000;
+        int queueSize = (args.length > 1) ? Integer.parseInt(args[1]) : 100_000;
+
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = i;
+        }
+
+        System.out.println("operations per run: " + operations + ", queue size: " + queueSize);
+        for (int round = 0; round < WARMUP_ROUNDS + 1; round++) {     // (the first rounds warm up the JIT)
+            boolean report = (round == WARMUP_ROUNDS);
+            steady("MyQueue", new RingQueue(), operations, queueSize, report);
+            steady("LinkedList", new ListQueue(), operations, queueSize, report);
+            burst("MyQueue", new RingQueue(), operations, queueSize, report);
+            burst("MyQueue presized", new RingQueue(queueSize), operations, queueSize, report);
+            burst("LinkedList", new ListQueue(), operations, queueSize, report);
+        }
+    }
+
+    private static void steady(String name, Queue queue, int operations, int queueSize, boolean report){
+        for (int i = 0; i < queueSize; i++) {
+            queue.enqueue(VALUES[i & (VALUES.length - 1)]);
+        }
+
+        long checksum = 0;
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < operations / 2; i++) {
+            queue.enqueue(VALUES[i & (VALUES.length - 1)]);
+            checksum += queue.dequeue();
+        }
+        long elapsed = System.nanoTime() - start;
+        bytes = allocatedBytes() - bytes;
+
+        if (report)
+            print("steady", name, operations / 2 * 2, operations / 2, elapsed, bytes, checksum);
+    }
+
+    private static void burst(String name, Queue queue, int operations, int queueSize, boolean report){
+        int batches = Math.max(1, operations / (2 * queueSize));
+
+        long checksum = 0;
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int b = 0; b < batches; b++) {
+            for (int i = 0; i < queueSize; i++) {
+                queue.enqueue(VALUES[i & (VALUES.length - 1)]);
+            }
+            while (!queue.isEmpty()) {
+                checksum += queue.dequeue();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        bytes = allocatedBytes() - bytes;
+
+        if (report)
+            print("burst", name, 2L * batches * queueSize, (long) batches * queueSize, elapsed, bytes, checksum);
+    }
+
+    private static void print(String workload, String name, long operations, long enqueues,
+                              long elapsed, long bytes, long checksum){
+        System.out.printf("%-7s %-17s %8.2f M ops/s   %7.2f bytes allocated per enqueue   (checksum %d)%n",
+                          workload, name, operations * 1e3 / elapsed, (double) bytes / enqueues, checksum);
+    }
+
+    /**
+        @return the bytes this thread has allocated so far,
+                or 0 if the JVM doesn't keep count
+    */
+    private static long allocatedBytes(){
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+            return threads.getCurrentThreadAllocatedBytes();
+
+        return 0;
+    }
+
+    /**
+        The operations both queues are timed on.
+    */
+    private interface Queue{
+        void enqueue(Integer element);
+        Integer dequeue();
+        boolean isEmpty();
+    }
+
+    private static final class RingQueue implements Queue{
+        private final MyQueue<Integer> queue;
+
+        private RingQueue()            {this.queue = new MyQueue<Integer>();            }
+        private RingQueue(int capacity){this.queue = new MyQueue<Integer>(capacity);    }
+
+        public void enqueue(Integer element){queue.enqueue(element);    }
+        public Integer dequeue()            {return queue.dequeue();    }
+        public boolean isEmpty()            {return queue.isEmpty();    }
+    }
+
+    /**
+        The baseline: what MyQueue used to be,
+        a LinkedList used as a FIFO.
+    */
+    private static final class ListQueue implements Queue{
+        private final LinkedList<Integer> list = new LinkedList<Integer>();
+
+        public void enqueue(Integer element){list.add(element);         }
+        public Integer dequeue()            {return list.remove();      }
+        public boolean isEmpty()            {return list.isEmpty();     }
+    }
+} // end class
@@ -0,0 +1,32 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+*   This interface describes how to write an
+*   element out as bytes and read it back in,
+*   for data structures that keep their elements
+*   on disk.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public interface MySerializer<T>{
+    /**
+    *   Writes an element.
+    *   @param element the element to be written
+    *   @param out where to write it
+    */
+    void write(T element, DataOutput out) throws IOException;
+
+    /**
+    *   Reads back an element written by write.
+    *   @param in where to read it from
+    *   @return the element
+    */
+    T read(DataInput in) throws IOException;
+} // end interface
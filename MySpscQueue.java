@@ -0,0 +1,174 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+
+/**
+*   This class implements a bounded, lock-free FIFO
+*   queue for exactly one producer thread and one
+*   consumer thread (single-producer, single-consumer).
+*
+*   Elements live in a circular array whose length is
+*   a power of two. The producer owns the tail sequence
+*   and the consumer owns the head sequence; each is
+*   written by one thread only, so neither needs a lock
+*   or even a compare-and-set. The producer writes an
+*   element into its slot and then publishes it with a
+*   release-write of the tail; the consumer's acquire-read
+*   of the tail guarantees it sees the element. Handing
+*   the slot back works the same way, through the head.
+*
+*   Each side also keeps a private copy of the other
+*   side's sequence, and only re-reads the real one when
+*   its copy says the queue is full (or empty), so the
+*   two threads rarely touch each other's cache lines.
+*   The two copies are padded apart, the same way as
+*   MyPaddedSequence, by declaring them in a chain of
+*   superclasses with padding in between.
+*
+*   enqueue and offer may only be called from the
+*   producer thread, and dequeue, poll and peek from the
+*   consumer thread. size and isEmpty may be called from
+*   any thread, but are only a snapshot. Null elements
+*   aren't allowed, since null marks an empty slot.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MySpscQueue<T> extends SpscConsumerPadding{
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final Object[] buffer;
+    private final int mask;
+    private final MyPaddedSequence head;    // the next slot to read; written only by the consumer
+    private final MyPaddedSequence tail;    // the next slot to write; written only by the producer
+
+    /**
+        @param capacity the most elements the queue can hold;
+                        rounded up to a power of two
+    */
+    public MySpscQueue(int capacity){
+        if (capacity < 1 || capacity > (1 << 30))
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+
+        int length = (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[length];
+        this.mask = length - 1;
+        this.head = new MyPaddedSequence(0);
+        this.tail = new MyPaddedSequence(0);
+    }
+
+    public int capacity(){return buffer.length;}
+
+    /**
+        @return the number of elements in this queue,
+                as of some moment during the call
+    */
+    public int size(){
+        long currentHead = head.getAcquire();
+        long currentTail = tail.getAcquire();
+        return (int) Math.max(0, Math.min(currentTail - currentHead, buffer.length));
+    }
+
+    public boolean isEmpty(){return tail.getAcquire() == head.getAcquire();}
+
+    /**
+        Adds an element to the end of the queue.
+        Producer thread only.
+        @throws IllegalStateException if the queue is full
+    */
+    public void enqueue(T element){
+        if (!offer(element))
+            throw new IllegalStateException("queue is full");
+    }
+
+    /**
+        Adds an element to the end of the queue,
+        if there's room. Producer thread only.
+        @return 'false' if the queue is full
+    */
+    public boolean offer(T element){
+        if (element == null) throw new IllegalArgumentException("null element");
+
+        long currentTail = tail.getPlain();
+        if (currentTail - headCache >= buffer.length) {
+            headCache = head.getAcquire();              // Only look at the real head if the copy says it's full.
+            if (currentTail - headCache >= buffer.length)
+                return false;
+        }
+
+        SLOT.set(buffer, (int) currentTail & mask, element);
+        tail.setRelease(currentTail + 1);               // Publish the element to the consumer.
+        return true;
+    }
+
+    /**
+        Removes the element at the front of
+        the queue. Consumer thread only.
+        @throws NoSuchElementException if the queue is empty
+    */
+    public T dequeue(){
+        T element = poll();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+        Removes the element at the front of the queue,
+        if there is one. Consumer thread only.
+        @return the first in line, or null if the queue is empty
+    */
+    public T poll(){
+        long currentHead = head.getPlain();
+        if (currentHead >= tailCache) {
+            tailCache = tail.getAcquire();              // Only look at the real tail if the copy says it's empty.
+            if (currentHead >= tailCache)
+                return null;
+        }
+
+        int index = (int) currentHead & mask;
+        T element = (T) SLOT.get(buffer, index);
+        SLOT.set(buffer, index, null);                  // (so the queue doesn't keep it alive)
+        head.setRelease(currentHead + 1);               // Hand the slot back to the producer.
+        return element;
+    }
+
+    /**
+        Retrieves, but does not remove, the element at
+        the front of the queue. Consumer thread only.
+        @return the first in line, or null if the queue is empty
+    */
+    public T peek(){
+        long currentHead = head.getPlain();
+        if (currentHead >= tailCache) {
+            tailCache = tail.getAcquire();
+            if (currentHead >= tailCache)
+                return null;
+        }
+
+        return (T) SLOT.get(buffer, (int) currentHead & mask);
+    }
+} // end class
+
+abstract class SpscLeftPadding{
+    long p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class SpscProducerFields extends SpscLeftPadding{
+    long headCache;                         // the producer's copy of head
+}
+
+abstract class SpscMiddlePadding extends SpscProducerFields{
+    long p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class SpscConsumerFields extends SpscMiddlePadding{
+    long tailCache;                         // the consumer's copy of tail
+}
+
+abstract class SpscConsumerPadding extends SpscConsumerFields{
+    long p21, p22, p23, p24, p25, p26, p27;
+}
@@ -0,0 +1,379 @@
+import java.util.ArrayList;
+
+/**
+*   This class implements a hashed hierarchical
+*   timing wheel: a delay scheduler in which
+*   scheduling and cancelling a timer take O(1) time.
+*
+*   Time is divided into ticks. The wheel has several
+*   levels of 64 slots each; a slot on level 0 covers
+*   one tick, a slot on level 1 covers 64 ticks, a slot
+*   on level 2 covers 64*64 ticks, and so on. A timer
+*   goes into the lowest level whose range still covers
+*   its deadline, as a node in that slot's doubly linked
+*   list, so cancelling it is just an unlink.
+*
+*   As time advances, each higher-level slot is emptied
+*   ("cascaded") into the levels below when its time
+*   comes, and every level-0 slot that time passes
+*   through fires. Timers too far in the future for
+*   even the top level wait in a MyIndexedMinHeap,
+*   ordered by deadline, until time reaches their range.
+*   Cancelling one of those takes it straight out of the
+*   heap, in O(log n) time, so cancelled timers never
+*   pile up there.
+*
+*   Since most timers are cancelled before they fire,
+*   most of them never get past the O(1) part.
+*
+*   Timers fire to within one tick: a timer fires as
+*   soon as time reaches the tick its deadline is in.
+*   Deadlines are in whatever unit the caller likes
+*   (millis, nanos...), as long as it's the same unit
+*   as the tick duration, and must not be negative.
+*   This class isn't thread-safe.
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyTimerWheel<T>{
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static final int IN_OVERFLOW = -1;
+    private static final int NOWHERE = -2;
+
+    private final long tickDuration;
+    private final int levels;
+    private final Timer<T>[] slots;             // level L, slot s is at index L*WHEEL_SIZE + s
+    private final int overdue;                  // the index of an extra slot, for timers already due
+    private final MyIndexedMinHeap<Timer<T>> overflow;
+    private long nextTick;                      // the first tick that hasn't been processed yet
+    private int size;
+    private int inWheel;                        // how many of the pending timers are in slots
+
+    /**
+    *   Builds a wheel with 4 levels, covering
+    *   64^4 (about 16.7 million) ticks.
+    *
+    *   @param tickDuration the length of a tick
+    *   @param now the current time
+    */
+    public MyTimerWheel(long tickDuration, long now){
+        this(tickDuration, 4, now);
+    } // end constructor
+
+    /**
+    *   @param tickDuration the length of a tick
+    *   @param levels the number of levels; the wheel covers
+    *                 64^levels ticks before the overflow heap takes over
+    *   @param now the current time
+    */
+    @SuppressWarnings("unchecked")
+    public MyTimerWheel(long tickDuration, int levels, long now){
+        if (tickDuration < 1)
+            throw new IllegalArgumentException("tick duration must be positive: " + tickDuration);
+        if (levels < 1 || levels * WHEEL_BITS > 60)
+            throw new IllegalArgumentException("levels must be between 1 and 10: " + levels);
+
+        this.tickDuration = tickDuration;
+        this.levels = levels;
+        this.slots = (Timer<T>[]) new Timer<?>[levels * WHEEL_SIZE + 1];
+        this.overdue = levels * WHEEL_SIZE;
+        this.overflow = new MyIndexedMinHeap<Timer<T>>();
+        this.nextTick = now / tickDuration;
+        this.size = 0;
+        this.inWheel = 0;
+    } // end constructor
+
+    /**
+    *   @return the number of timers that are
+    *           still waiting to fire
+    */
+    public int size(){
+        return this.size;
+    } // end method size
+
+    public boolean isEmpty(){
+        return (this.size == 0);
+    } // end method isEmpty
+
+    /**
+    *   Schedules a task to fire at some time.
+    *   A deadline that has already passed fires
+    *   at the next call to advance.
+    *
+    *   @param deadline the time at which the task is due
+    *   @param task the task
+    *   @return a handle for cancelling the timer
+    */
+    public Timer<T> schedule(long deadline, T task){
+        Timer<T> timer = new Timer<T>(deadline, deadline / tickDuration, task);
+        place(timer, this.nextTick);
+        this.size++;
+        return timer;
+    } // end method schedule
+
+    /**
+    *   Cancels a timer, in O(1) time (or
+    *   O(log n), if it's in the overflow heap).
+    *
+    *   @param timer the handle returned by schedule
+    *   @return 'true' if the timer was still pending
+    */
+    public boolean cancel(Timer<T> timer){
+        if (timer.state != Timer.PENDING)
+            return false;
+
+        if (timer.slot >= 0)
+            unlink(timer);
+        else if (timer.slot == IN_OVERFLOW)
+            overflow.remove(timer);
+        timer.slot = NOWHERE;
+
+        timer.state = Timer.CANCELLED;
+        this.size--;
+        return true;
+    } // end method cancel
+
+    /**
+    *   Moves time forward, firing every timer whose
+    *   deadline has been reached.
+    *
+    *   @param now the current time
+    *   @return the tasks of the timers that fired, tick by tick
+    */
+    public ArrayList<T> advance(long now){
+        ArrayList<T> expired = new ArrayList<>();
+        long nowTick = now / tickDuration;
+
+        fire(this.overdue, expired);
+
+        while (this.nextTick <= nowTick){
+            if (this.inWheel == 0 && !skipAhead(nowTick))   // if there's nothing left to fire by now,
+                break;                                      // don't bother ticking through the gap.
+
+            processTick(this.nextTick, expired);
+            this.nextTick++;
+        }
+
+        if (this.nextTick <= nowTick)
+            this.nextTick = nowTick + 1;
+
+        return expired;
+    } // end method advance
+
+    /**
+    *   When the wheel's slots are all empty, jumps
+    *   straight to the next tick that matters: the one
+    *   at which the earliest overflow timer comes into
+    *   range.
+    *
+    *   @return 'false' if nothing can fire by nowTick
+    */
+    private boolean skipAhead(long nowTick){
+        Timer<T> earliest = peekOverflow();
+        if (earliest == null)
+            return false;
+
+        long rangeStart = (earliest.deadlineTick >>> (WHEEL_BITS * levels)) << (WHEEL_BITS * levels);
+        if (rangeStart > nowTick)
+            return false;
+
+        this.nextTick = Math.max(this.nextTick, rangeStart);
+        return true;
+    } // end method skipAhead
+
+    /**
+    *   Processes one tick: pulls in any overflow timers
+    *   whose range has come, cascades any higher-level
+    *   slots that are due, and fires the level-0 slot.
+    */
+    private void processTick(long tick, ArrayList<T> expired){
+        if ((tick & rangeMask(levels)) == 0)
+            pullOverflow(tick);
+
+        for (int level = levels-1; level >= 1; level--){    // top-down, so timers can fall more than one level.
+            if ((tick & rangeMask(level)) == 0)
+                cascade(level, (int) ((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK), tick);
+        }
+
+        fire((int) (tick & WHEEL_MASK), expired);
+    } // end method processTick
+
+    /**
+    *   Fires every timer in a slot.
+    */
+    private void fire(int index, ArrayList<T> expired){
+        Timer<T> timer = slots[index];
+        slots[index] = null;
+
+        while (timer != null){
+            Timer<T> next = timer.next;
+            timer.prev = timer.next = null;
+            timer.slot = NOWHERE;
+            timer.state = Timer.EXPIRED;
+            expired.add(timer.task);
+            this.inWheel--;
+            this.size--;
+            timer = next;
+        }
+    } // end method fire
+
+    /**
+    *   Re-places every timer in a higher-level slot,
+    *   now that time has reached that slot's range.
+    */
+    private void cascade(int level, int slot, long tick){
+        int index = level * WHEEL_SIZE + slot;
+        Timer<T> timer = slots[index];
+        slots[index] = null;
+
+        while (timer != null){
+            Timer<T> next = timer.next;
+            timer.prev = timer.next = null;
+            this.inWheel--;
+            place(timer, tick);
+            timer = next;
+        }
+    } // end method cascade
+
+    /**
+    *   Moves every overflow timer that falls in the
+    *   wheel's new range into the wheel.
+    */
+    private void pullOverflow(long tick){
+        long range = tick >>> (WHEEL_BITS * levels);
+
+        while (!overflow.isEmpty() && (overflow.peek().deadlineTick >>> (WHEEL_BITS * levels)) <= range)
+            place(overflow.remove(), tick);
+    } // end method pullOverflow
+
+    /**
+    *   @return the earliest overflow timer, or null
+    */
+    private Timer<T> peekOverflow(){
+        return overflow.isEmpty() ? null : overflow.peek();
+    } // end method peekOverflow
+
+    /**
+    *   Puts a timer in the lowest level whose range,
+    *   counting from some tick, covers its deadline,
+    *   or in the overflow heap if none does.
+    *
+    *   @param timer the timer to be placed
+    *   @param tick the tick the wheel is currently at
+    */
+    private void place(Timer<T> timer, long tick){
+        long deadlineTick = timer.deadlineTick;
+
+        if (deadlineTick < tick){       // if its tick has already been processed,
+            link(timer, overdue);       // it fires at the next advance.
+            return;
+        }
+
+        for (int level = 0; level < levels; level++){
+            int shift = WHEEL_BITS * (level + 1);
+
+            if ((deadlineTick >>> shift) == (tick >>> shift)){  // if the deadline is in this level's current range,
+                int slot = (int) ((deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+                link(timer, level * WHEEL_SIZE + slot);         // it goes in the slot that covers it.
+                return;
+            }
+        }
+
+        timer.slot = IN_OVERFLOW;
+        overflow.insert(timer);
+    } // end method place
+
+    /**
+    *   Pushes a timer onto the front of a slot's list.
+    */
+    private void link(Timer<T> timer, int index){
+        timer.slot = index;
+        timer.prev = null;
+        timer.next = slots[index];
+        if (timer.next != null)
+            timer.next.prev = timer;
+        slots[index] = timer;
+        this.inWheel++;
+    } // end method link
+
+    /**
+    *   Removes a timer from its slot's list.
+    */
+    private void unlink(Timer<T> timer){
+        if (timer.prev != null)
+            timer.prev.next = timer.next;
+        else
+            slots[timer.slot] = timer.next;
+
+        if (timer.next != null)
+            timer.next.prev = timer.prev;
+
+        timer.prev = timer.next = null;
+        timer.slot = NOWHERE;
+        this.inWheel--;
+    } // end method unlink
+
+    /**
+    *   @return a mask of the low bits of a tick that
+    *           vary within one slot of some level
+    */
+    private static long rangeMask(int level){
+        return (1L << (WHEEL_BITS * level)) - 1;
+    } // end method rangeMask
+
+    /**
+    *   This nested class provides the handles
+    *   returned by schedule. Each one is also a
+    *   node in a slot's doubly linked list.
+    */
+    public static final class Timer<T> implements Comparable<Timer<T>>{
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final long deadline;
+        private final long deadlineTick;
+        private final T task;
+        private Timer<T> prev;
+        private Timer<T> next;
+        private int slot;
+        private int state;
+
+        private Timer(long deadline, long deadlineTick, T task){
+            this.deadline = deadline;
+            this.deadlineTick = deadlineTick;
+            this.task = task;
+            this.slot = NOWHERE;
+            this.state = PENDING;
+        } // end constructor
+
+        public long getDeadline(){
+            return this.deadline;
+        } // end method getDeadline
+
+        public T getTask(){
+            return this.task;
+        } // end method getTask
+
+        public boolean isPending(){
+            return (this.state == PENDING);
+        } // end method isPending
+
+        public boolean isCancelled(){
+            return (this.state == CANCELLED);
+        } // end method isCancelled
+
+        @Override
+        public int compareTo(Timer<T> other){
+            return Long.compare(this.deadlineTick, other.deadlineTick);
+        } // end method compareTo
+    } // end nested class Timer
+} // end class
@@ -0,0 +1,168 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+*   This class compares the latency and jitter of
+*   MyTimerWheel against a plain heap-based scheduler
+*   (a MyIndexedMinHeap of deadlines), on a workload of
+*   request timeouts, most of which are cancelled.
+*
+*   Time is simulated in 1 ms ticks. Every tick, each
+*   scheduler gets the same stream of operations: new
+*   timeouts 30 to 60 seconds out (and, now and then,
+*   one 1 to 2 hours out), cancellations of 90% of them a few
+*   milliseconds to a second later (the request came
+*   back in time), and one advance. Each operation is
+*   timed on its own, and the percentiles, maximum and
+*   standard deviation (jitter) are printed for each
+*   kind of operation.
+*
+*   Usage: java MyTimerWheelBenchmark [ticks] [timers per tick]
+*
+*   For educational purposes.
+*
+*   @author         Maximilian Spedale
+*   Created:        October 18, 2026
+*   Last updated:   October 18, 2026
+*/
+
+public class MyTimerWheelBenchmark{
+    private static final int MAX_CANCEL_DELAY = 1000;
+
+    public static void main(String[] args){
+        int ticks = (args.length > 0) ? Integer.parseInt(args[0]) : 90_000;
+        int perTick = (args.length > 1) ? Integer.parseInt(args[1]) : 20;
+
+        System.out.println("ticks: " + ticks + ", timers per tick: " + perTick);
+        for (int round = 0; round < 2; round++) {           // (the first round warms up the JIT)
+            boolean report = (round == 1);
+            run("MyTimerWheel", new WheelScheduler(), ticks, perTick, report);
+            run("MyIndexedMinHeap", new HeapScheduler(), ticks, perTick, report);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void run(String name, Scheduler scheduler, int ticks, int perTick, boolean report){
+        Random random = new Random(42);
+        ArrayList<Object>[] toCancel = (ArrayList<Object>[]) new ArrayList<?>[ticks + MAX_CANCEL_DELAY + 1];
+        long[] scheduleTimes = new long[ticks * perTick];
+        long[] cancelTimes = new long[ticks * perTick];
+        long[] advanceTimes = new long[ticks];
+        int schedules = 0;
+        int cancels = 0;
+        long fired = 0;
+
+        for (int now = 0; now < ticks; now++) {
+            for (int i = 0; i < perTick; i++) {
+                long deadline = (random.nextInt(100) == 0)
+                              ? now + 3_600_000L + random.nextInt(3_600_000)
+                              : now + 30_000 + random.nextInt(30_000);
+                long start = System.nanoTime();
+                Object handle = scheduler.schedule(deadline);
+                scheduleTimes[schedules++] = System.nanoTime() - start;
+
+                if (random.nextInt(10) != 0) {
+                    int when = now + 1 + random.nextInt(MAX_CANCEL_DELAY);
+                    if (toCancel[when] == null) toCancel[when] = new ArrayList<>();
+                    toCancel[when].add(handle);
+                }
+            }
+
+            if (toCancel[now] != null) {
+                for (Object handle : toCancel[now]) {
+                    long start = System.nanoTime();
+                    scheduler.cancel(handle);
+                    cancelTimes[cancels++] = System.nanoTime() - start;
+                }
+                toCancel[now] = null;
+            }
+
+            long start = System.nanoTime();
+            fired += scheduler.advance(now);
+            advanceTimes[now] = System.nanoTime() - start;
+        }
+
+        if (!report) return;
+        System.out.println();
+        System.out.println(name + " (" + scheduler.size() + " pending, " + fired + " fired)");
+        print("schedule", scheduleTimes, schedules);
+        print("cancel", cancelTimes, cancels);
+        print("advance", advanceTimes, ticks);
+    }
+
+    private static void print(String operation, long[] times, int count){
+        long[] sorted = Arrays.copyOf(times, count);
+        Arrays.sort(sorted);
+
+        double mean = 0;
+        for (long t : sorted) mean += t;
+        mean /= count;
+        double variance = 0;
+        for (long t : sorted) variance += (t - mean) * (t - mean);
+
+        System.out.printf("  %-9s (ns)  mean: %8.0f  p50: %7d  p99: %7d  p99.9: %8d  max: %9d  stddev: %9.0f%n",
+                          operation, mean, sorted[count / 2], sorted[(int) (count * 0.99)],
+                          sorted[(int) (count * 0.999)], sorted[count - 1], Math.sqrt(variance / count));
+    }
+
+    /**
+        The operations both schedulers are timed on.
+    */
+    private interface Scheduler{
+        Object schedule(long deadline);
+        void cancel(Object handle);
+        int advance(long now);
+        int size();
+    }
+
+    private static final class WheelScheduler implements Scheduler{
+        private final MyTimerWheel<Long> wheel = new MyTimerWheel<Long>(1, 0);
+
+        public Object schedule(long deadline){return wheel.schedule(deadline, deadline);         }
+        @SuppressWarnings("unchecked")
+        public void cancel(Object handle)     {wheel.cancel((MyTimerWheel.Timer<Long>) handle);  }
+        public int advance(long now)          {return wheel.advance(now).size();                 }
+        public int size()                     {return wheel.size();                              }
+    }
+
+    /**
+        The baseline: every timer in one heap, ordered
+        by deadline. Cancelling removes it from the heap.
+    */
+    private static final class HeapScheduler implements Scheduler{
+        private final MyIndexedMinHeap<Deadline> heap = new MyIndexedMinHeap<Deadline>();
+
+        public Object schedule(long deadline){
+            Deadline timer = new Deadline(deadline);
+            heap.insert(timer);
+            return timer;
+        }
+
+        public void cancel(Object handle){heap.remove((Deadline) handle);}
+
+        public int advance(long now){
+            int fired = 0;
+            while (!heap.isEmpty() && heap.peek().deadline <= now) {
+                heap.remove();
+                fired++;
+            }
+            return fired;
+        }
+
+        public int size(){return heap.size();}
+    }
+
+    private static final class Deadline implements Comparable<Deadline>{
+        private final long deadline;
+
+        private Deadline(long deadline){
+            this.deadline = deadline;
+        }
+
+        @Override
+        public int compareTo(Deadline other){
+            return Long.compare(deadline, other.deadline);
+        }
+    }
+} // end class